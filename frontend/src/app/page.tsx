@@ -8,6 +8,7 @@ type Issue = {
   message: string;
   line?: number | null;
   source?: string | null;
+  sources?: string[] | null;
 };
 
 type ValidationResponse = {
@@ -22,6 +23,8 @@ type ValidationResponse = {
     hasBlockingIssues?: boolean | null;
   };
   suggestions?: string[] | null;
+  aiStatus?: "COMPLETED" | "SKIPPED" | "SHORT_CIRCUITED" | "DEGRADED" | null;
+  contentHash?: string | null;
 };
 
 const defaultSource = `// 예시: 안전하지 않은 SQL 조합
@@ -202,6 +205,16 @@ export default function Home() {
                       {result.decision.reason}
                     </p>
                   ) : null}
+                  {result.aiStatus === "DEGRADED" ? (
+                    <p className="rounded-lg border border-amber-200 bg-amber-50 px-3 py-2 text-xs text-amber-700">
+                      AI 분석을 사용할 수 없어 정적 분석 결과만 반영되었습니다.
+                    </p>
+                  ) : null}
+                  {result.aiStatus === "SHORT_CIRCUITED" ? (
+                    <p className="rounded-lg border border-slate-200 bg-slate-50 px-3 py-2 text-xs text-slate-600">
+                      정적 분석만으로 판정이 확정되어 AI 분석을 생략했습니다.
+                    </p>
+                  ) : null}
                 </div>
               ) : (
                 <p className="mt-3 text-sm text-zinc-500">
@@ -247,7 +260,11 @@ export default function Home() {
                       </span>
                       <span>{issue.type}</span>
                       {issue.line ? <span>Line {issue.line}</span> : null}
-                      {issue.source ? <span>{issue.source}</span> : null}
+                      {issue.sources && issue.sources.length > 1 ? (
+                        <span>{issue.sources.join(" + ")}</span>
+                      ) : issue.source ? (
+                        <span>{issue.source}</span>
+                      ) : null}
                     </div>
                     <p className="mt-2 text-sm text-zinc-700">
                       {issue.message}
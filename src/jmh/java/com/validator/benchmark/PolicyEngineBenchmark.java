@@ -0,0 +1,32 @@
+package com.validator.benchmark;
+
+import com.validator.domain.model.DecisionResult;
+import com.validator.domain.model.Issue;
+import com.validator.domain.policy.PolicyEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class PolicyEngineBenchmark {
+
+    @Param({"0", "8", "64", "512"})
+    public int issueCount;
+
+    private final PolicyEngine policyEngine = new PolicyEngine();
+    private List<Issue> issues;
+
+    @Setup
+    public void setUp() {
+        issues = SourceFixtures.issues(issueCount);
+    }
+
+    @Benchmark
+    public DecisionResult decide() {
+        return policyEngine.decide(issues);
+    }
+}
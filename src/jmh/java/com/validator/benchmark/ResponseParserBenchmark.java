@@ -0,0 +1,33 @@
+package com.validator.benchmark;
+
+import com.validator.domain.model.Issue;
+import com.validator.infrastructure.ai.AiAnalysisResponseParser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class ResponseParserBenchmark {
+
+    @Param({"0", "8", "64"})
+    public int issueCount;
+
+    private final AiAnalysisResponseParser parser = new AiAnalysisResponseParser(new SimpleMeterRegistry());
+    private byte[] response;
+
+    @Setup
+    public void setUp() {
+        response = SourceFixtures.chatCompletion(issueCount).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<Issue> parseIssues() {
+        return parser.parseIssues(response);
+    }
+}
@@ -0,0 +1,98 @@
+package com.validator.benchmark;
+
+import com.validator.application.CodeValidationService;
+import com.validator.domain.policy.PolicyEngine;
+import com.validator.dto.request.CodeValidationRequest;
+import com.validator.dto.response.CodeValidationResponse;
+import com.validator.infrastructure.ai.AiAnalysisCache;
+import com.validator.infrastructure.ai.AiAnalysisResponseParser;
+import com.validator.infrastructure.ai.AiAnalysisService;
+import com.validator.infrastructure.ai.AiProviderRouter;
+import com.validator.infrastructure.ai.AiTierSelector;
+import com.validator.infrastructure.ai.OpenAiClient;
+import com.validator.infrastructure.analyzer.QualityValidator;
+import com.validator.infrastructure.analyzer.RulePackValidator;
+import com.validator.infrastructure.analyzer.SecurityValidator;
+import com.validator.infrastructure.analyzer.SyntaxValidator;
+import com.validator.infrastructure.config.AiCacheProperties;
+import com.validator.infrastructure.config.AiRoutingProperties;
+import com.validator.infrastructure.config.AiTierProperties;
+import com.validator.infrastructure.config.OpenAiProperties;
+import com.validator.infrastructure.config.ReviewProperties;
+import com.validator.infrastructure.policy.PolicyRuleLoader;
+import com.validator.infrastructure.review.ReviewResultStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class ReviewBenchmark {
+
+    @Param({"1024", "5120", "10240", "20000", "102400", "512000"})
+    public int sourceLength;
+
+    private CodeValidationService service;
+    private CodeValidationRequest request;
+
+    @Setup
+    public void setUp() {
+        OpenAiProperties openAiProperties = new OpenAiProperties();
+        openAiProperties.setEnabled(true);
+        openAiProperties.setApiKey("benchmark");
+        openAiProperties.setModel("gpt-4o-mini");
+        AiCacheProperties cacheProperties = new AiCacheProperties();
+        cacheProperties.setEnabled(false);
+
+        AiTierSelector tierSelector = new AiTierSelector(new AiTierProperties());
+        AiAnalysisService aiAnalysisService = new AiAnalysisService(
+                new AiProviderRouter(List.of(new StubOpenAiClient(openAiProperties)), new AiRoutingProperties()),
+                new AiAnalysisResponseParser(new SimpleMeterRegistry()),
+                openAiProperties,
+                new AiAnalysisCache(cacheProperties, new SimpleMeterRegistry()),
+                tierSelector
+        );
+        ReviewProperties reviewProperties = new ReviewProperties();
+        RulePackValidator rulePackValidator = new RulePackValidator(new SimpleMeterRegistry());
+        PolicyRuleLoader loader = new PolicyRuleLoader(new DefaultResourceLoader());
+        rulePackValidator.replaceDetectors(
+                loader.loadRuleSet(loader.resolve("classpath:validation-rules.json")).detectors());
+        service = new CodeValidationService(
+                List.of(new SyntaxValidator(), new SecurityValidator(), new QualityValidator(), rulePackValidator),
+                aiAnalysisService,
+                tierSelector,
+                new PolicyEngine(),
+                reviewProperties,
+                new ReviewResultStore(reviewProperties, new SimpleMeterRegistry()),
+                new SimpleMeterRegistry()
+        );
+        request = new CodeValidationRequest(SourceFixtures.javaSource(sourceLength), "Generated.java", null, "JAVA");
+    }
+
+    @Benchmark
+    public CodeValidationResponse review() {
+        return service.review(request);
+    }
+
+    private static final class StubOpenAiClient extends OpenAiClient {
+
+        private static final byte[] RESPONSE = SourceFixtures.chatCompletion(8).getBytes(StandardCharsets.UTF_8);
+
+        StubOpenAiClient(OpenAiProperties properties) {
+            super(WebClient.create(), properties, new SimpleMeterRegistry());
+        }
+
+        @Override
+        public Mono<byte[]> analyzeCode(String model, String prompt) {
+            return Mono.just(RESPONSE);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.validator.benchmark;
+
+import com.validator.domain.model.Issue;
+import com.validator.domain.model.IssueSeverity;
+import com.validator.domain.model.IssueSource;
+import com.validator.domain.model.IssueType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class SourceFixtures {
+
+    private static final String[] BODY_LINES = {
+            "    private final Map<String, Object> cache = new HashMap<>();",
+            "    // TODO: move to configuration",
+            "    public String load(String key) {",
+            "        if (key == null || key.isBlank()) {",
+            "            throw new IllegalArgumentException(\"key\");",
+            "        }",
+            "        System.out.println(\"loading \" + key);",
+            "        String url = \"http://internal.example.com/\" + key;",
+            "        try {",
+            "            return fetch(url).trim();",
+            "        } catch (Exception ex) {",
+            "            ex.printStackTrace();",
+            "            return \"\";",
+            "        }",
+            "    }",
+            "    private String password = \"changeit\";",
+            "    MessageDigest digest = MessageDigest.getInstance(\"MD5\");",
+            ""
+    };
+
+    private SourceFixtures() {
+    }
+
+    static String javaSource(int targetLength) {
+        StringBuilder source = new StringBuilder(targetLength + 256);
+        source.append("package com.example;\n\nimport java.util.HashMap;\nimport java.util.Map;\n\n");
+        source.append("public class Generated {\n");
+        int line = 0;
+        while (source.length() < targetLength - 2) {
+            source.append(BODY_LINES[line++ % BODY_LINES.length]).append('\n');
+        }
+        source.append("}\n");
+        return source.length() > targetLength ? source.substring(0, targetLength - 2) + "\n}" : source.toString();
+    }
+
+    static List<Issue> issues(int count) {
+        IssueType[] types = {IssueType.SECURITY, IssueType.QUALITY, IssueType.SYNTAX, IssueType.PERFORMANCE};
+        IssueSeverity[] severities = IssueSeverity.values();
+        List<Issue> issues = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            issues.add(new Issue(
+                    types[i % types.length],
+                    severities[(i / types.length) % severities.length],
+                    "issue-" + i,
+                    i + 1,
+                    i % 2 == 0 ? IssueSource.STATIC_ANALYZER : IssueSource.AI_ASSIST
+            ));
+        }
+        return issues;
+    }
+
+    static String chatCompletion(int issueCount) {
+        StringBuilder content = new StringBuilder("[");
+        for (int i = 0; i < issueCount; i++) {
+            if (i > 0) content.append(',');
+            content.append("{\\\"type\\\":\\\"SECURITY\\\",\\\"severity\\\":\\\"HIGH\\\",")
+                    .append("\\\"message\\\":\\\"입력 검증이 필요합니다 ").append(i).append("\\\",")
+                    .append("\\\"line\\\":").append(i + 1).append('}');
+        }
+        content.append(']');
+        return "{\"id\":\"chatcmpl-bench\",\"object\":\"chat.completion\",\"model\":\"gpt-4o-mini\","
+                + "\"choices\":[{\"index\":0,\"message\":{\"role\":\"assistant\",\"content\":\""
+                + content + "\"},\"finish_reason\":\"stop\"}],"
+                + "\"usage\":{\"prompt_tokens\":1200,\"completion_tokens\":300,\"total_tokens\":1500}}";
+    }
+}
@@ -0,0 +1,65 @@
+package com.validator.benchmark;
+
+import com.validator.domain.model.CodeSubmission;
+import com.validator.domain.model.Issue;
+import com.validator.infrastructure.analyzer.PatternScanner;
+import com.validator.infrastructure.analyzer.QualityValidator;
+import com.validator.infrastructure.analyzer.ScanResult;
+import com.validator.infrastructure.analyzer.SecurityValidator;
+import com.validator.infrastructure.analyzer.StaticAnalyzer;
+import com.validator.infrastructure.analyzer.SyntaxValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@State(Scope.Benchmark)
+public class StaticAnalyzerBenchmark {
+
+    @Param({"1024", "5120", "10240", "20000"})
+    public int sourceLength;
+
+    private final SecurityValidator securityValidator = new SecurityValidator();
+    private final QualityValidator qualityValidator = new QualityValidator();
+    private final SyntaxValidator syntaxValidator = new SyntaxValidator();
+
+    private PatternScanner scanner;
+    private CodeSubmission submission;
+    private ScanResult scan;
+
+    @Setup
+    public void setUp() {
+        Set<String> patterns = new LinkedHashSet<>();
+        for (StaticAnalyzer analyzer : List.of(securityValidator, qualityValidator, syntaxValidator)) {
+            patterns.addAll(analyzer.patterns());
+        }
+        scanner = PatternScanner.compile(patterns);
+        submission = new CodeSubmission(SourceFixtures.javaSource(sourceLength), "Generated.java", null, "JAVA");
+        scan = scanner.scan(submission.sourceCode(), submission.language());
+    }
+
+    @Benchmark
+    public ScanResult scan() {
+        return scanner.scan(submission.sourceCode(), submission.language());
+    }
+
+    @Benchmark
+    public List<Issue> securityValidator() {
+        return securityValidator.analyze(submission, scan);
+    }
+
+    @Benchmark
+    public List<Issue> qualityValidator() {
+        return qualityValidator.analyze(submission, scan);
+    }
+
+    @Benchmark
+    public List<Issue> syntaxValidator() {
+        return syntaxValidator.analyze(submission, scan);
+    }
+}
@@ -1,12 +1,28 @@
 package com.validator;
 
+import com.validator.infrastructure.config.AiCacheProperties;
+import com.validator.infrastructure.config.AiRoutingProperties;
+import com.validator.infrastructure.config.AiTierProperties;
+import com.validator.infrastructure.config.LocalAiProperties;
 import com.validator.infrastructure.config.OpenAiProperties;
+import com.validator.infrastructure.config.PolicyProperties;
+import com.validator.infrastructure.config.ReviewJobProperties;
+import com.validator.infrastructure.config.ReviewProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(OpenAiProperties.class)
+@EnableConfigurationProperties({
+        OpenAiProperties.class,
+        ReviewProperties.class,
+        AiCacheProperties.class,
+        PolicyProperties.class,
+        ReviewJobProperties.class,
+        LocalAiProperties.class,
+        AiRoutingProperties.class,
+        AiTierProperties.class
+})
 public class AiCodeValidatorApplication {
 
     public static void main(String[] args) {
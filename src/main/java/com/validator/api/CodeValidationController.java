@@ -1,15 +1,23 @@
 package com.validator.api;
 
 import com.validator.application.CodeValidationService;
+import com.validator.dto.request.CodeBatchValidationRequest;
 import com.validator.dto.request.CodeValidationRequest;
+import com.validator.dto.request.IncrementalReviewRequest;
+import com.validator.dto.response.CodeBatchValidationResponse;
 import com.validator.dto.response.CodeValidationResponse;
+import com.validator.dto.response.ReviewStreamEvent;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Validated
 @RestController
@@ -26,4 +34,27 @@ public class CodeValidationController {
     public ResponseEntity<CodeValidationResponse> reviewCode(@Valid @RequestBody CodeValidationRequest request) {
         return ResponseEntity.ok(codeValidationService.review(request));
     }
+
+    @PostMapping("/review/reactive")
+    public Mono<CodeValidationResponse> reviewCodeReactive(@Valid @RequestBody CodeValidationRequest request) {
+        return codeValidationService.reviewAsync(request);
+    }
+
+    @PostMapping("/review/incremental")
+    public Mono<CodeValidationResponse> reviewIncremental(@Valid @RequestBody IncrementalReviewRequest request) {
+        return codeValidationService.reviewIncrementalAsync(request);
+    }
+
+    @PostMapping(value = "/review/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ReviewStreamEvent>> reviewCodeStream(@Valid @RequestBody CodeValidationRequest request) {
+        return codeValidationService.reviewStream(request)
+                .map(event -> ServerSentEvent.builder(event)
+                        .event(event.type())
+                        .build());
+    }
+
+    @PostMapping("/review/batch")
+    public Mono<CodeBatchValidationResponse> reviewBatch(@Valid @RequestBody CodeBatchValidationRequest request) {
+        return codeValidationService.reviewBatchAsync(request);
+    }
 }
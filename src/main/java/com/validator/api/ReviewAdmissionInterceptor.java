@@ -0,0 +1,85 @@
+package com.validator.api;
+
+import com.validator.infrastructure.admission.AdmissionPriority;
+import com.validator.infrastructure.admission.ReviewAdmissionLimiter;
+import com.validator.infrastructure.config.ReviewProperties;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+@Component
+public class ReviewAdmissionInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ReviewAdmissionInterceptor.class.getName() + ".permit";
+
+    private final ReviewAdmissionLimiter admissionLimiter;
+    private final ReviewProperties reviewProperties;
+
+    public ReviewAdmissionInterceptor(ReviewAdmissionLimiter admissionLimiter, ReviewProperties reviewProperties) {
+        this.admissionLimiter = admissionLimiter;
+        this.reviewProperties = reviewProperties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE,
+                admissionLimiter.acquire(request.getContentLengthLong(), priorityOf(request)));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        ReviewAdmissionLimiter.Permit permit = permitOf(request);
+        if (permit == null) {
+            return;
+        }
+        request.getAsyncContext().addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                permit.release();
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                permit.release();
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                permit.release();
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        ReviewAdmissionLimiter.Permit permit = permitOf(request);
+        if (permit != null) {
+            permit.release();
+        }
+    }
+
+    private AdmissionPriority priorityOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return reviewProperties.getAdmission().getInteractivePaths().contains(path)
+                ? AdmissionPriority.INTERACTIVE
+                : AdmissionPriority.BATCH;
+    }
+
+    private ReviewAdmissionLimiter.Permit permitOf(HttpServletRequest request) {
+        return (ReviewAdmissionLimiter.Permit) request.getAttribute(PERMIT_ATTRIBUTE);
+    }
+}
@@ -0,0 +1,41 @@
+package com.validator.api;
+
+import com.validator.application.ReviewJobService;
+import com.validator.dto.request.ReviewJobRequest;
+import com.validator.dto.response.ReviewJobResponse;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+
+@Validated
+@RestController
+@RequestMapping("/api/v1/code/review/jobs")
+public class ReviewJobController {
+
+    private final ReviewJobService reviewJobService;
+
+    public ReviewJobController(ReviewJobService reviewJobService) {
+        this.reviewJobService = reviewJobService;
+    }
+
+    @PostMapping
+    public ResponseEntity<ReviewJobResponse> submitJob(@Valid @RequestBody ReviewJobRequest request) {
+        ReviewJobResponse response = reviewJobService.submit(request);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/code/review/jobs/" + response.jobId()))
+                .body(response);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ReviewJobResponse> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(reviewJobService.get(jobId));
+    }
+}
@@ -1,5 +1,7 @@
 package com.validator.application;
 
+import com.validator.domain.model.AiAnalysisStatus;
+import com.validator.domain.model.AiTier;
 import com.validator.domain.model.AnalysisSummary;
 import com.validator.domain.model.CodeSubmission;
 import com.validator.domain.model.DecisionResult;
@@ -7,21 +9,68 @@ import com.validator.domain.model.Issue;
 import com.validator.domain.model.IssueSeverity;
 import com.validator.domain.model.IssueType;
 import com.validator.domain.model.DecisionStatus;
+import com.validator.dto.request.CodeBatchValidationRequest;
 import com.validator.dto.request.CodeValidationRequest;
+import com.validator.dto.request.IncrementalReviewRequest;
+import com.validator.dto.response.CodeBatchValidationResponse;
 import com.validator.dto.response.CodeValidationResponse;
+import com.validator.dto.response.FileValidationResult;
+import com.validator.dto.response.ReviewStreamEvent;
+import com.validator.domain.policy.IssueMerger;
 import com.validator.domain.policy.PolicyEngine;
+import com.validator.domain.source.SourceChunk;
+import com.validator.domain.source.SourceChunker;
+import com.validator.domain.source.SourceDelta;
+import com.validator.domain.source.SourceRegion;
+import com.validator.domain.source.SourceTokens;
+import com.validator.domain.source.TokenKind;
+import com.validator.domain.source.TokenEstimator;
+import com.validator.domain.source.UnifiedDiff;
+import com.validator.exception.ErrorResponse;
+import com.validator.exception.ResourceNotFoundException;
 import com.validator.exception.ValidationException;
+import com.validator.infrastructure.ai.AiAnalysisResult;
 import com.validator.infrastructure.ai.AiAnalysisService;
+import com.validator.infrastructure.ai.AiTierSelector;
+import com.validator.infrastructure.analyzer.PatternScanner;
+import com.validator.infrastructure.analyzer.ScanResult;
 import com.validator.infrastructure.analyzer.StaticAnalyzer;
+import com.validator.infrastructure.config.AiTierProperties;
+import com.validator.infrastructure.config.ReviewProperties;
+import com.validator.infrastructure.review.ReviewResultStore;
+import com.validator.infrastructure.review.StoredReview;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 @Service
 public class CodeValidationService {
 
-    private static final int MAX_SOURCE_LENGTH = 20000;
+    private static final Logger logger = LoggerFactory.getLogger(CodeValidationService.class);
     private static final List<String> FORBIDDEN_PATTERNS = List.of(
             "Runtime.getRuntime().exec",
             "ProcessBuilder",
@@ -30,36 +79,485 @@ public class CodeValidationService {
 
     private final List<StaticAnalyzer> staticAnalyzers;
     private final AiAnalysisService aiAnalysisService;
+    private final AiTierSelector aiTierSelector;
     private final PolicyEngine policyEngine;
+    private final ReviewProperties reviewProperties;
+    private final ReviewResultStore resultStore;
+    private volatile CompiledScanner compiledScanner;
+    private final SourceChunker sourceChunker;
+    private final IssueMerger issueMerger;
+    private final MeterRegistry meterRegistry;
+    private final Map<StaticAnalyzer, Timer> analyzerTimers = new IdentityHashMap<>();
+    private final Timer staticStageTimer;
+    private final Timer aiStageTimer;
 
     public CodeValidationService(
             List<StaticAnalyzer> staticAnalyzers,
             AiAnalysisService aiAnalysisService,
-            PolicyEngine policyEngine
+            AiTierSelector aiTierSelector,
+            PolicyEngine policyEngine,
+            ReviewProperties reviewProperties,
+            ReviewResultStore resultStore,
+            MeterRegistry meterRegistry
     ) {
         this.staticAnalyzers = staticAnalyzers;
         this.aiAnalysisService = aiAnalysisService;
+        this.aiTierSelector = aiTierSelector;
         this.policyEngine = policyEngine;
+        this.reviewProperties = reviewProperties;
+        this.resultStore = resultStore;
+        this.compiledScanner = compileScanner(staticAnalyzers);
+        this.sourceChunker = new SourceChunker(
+                reviewProperties.getChunking().getChunkSize(),
+                reviewProperties.getChunking().getOverlapLines()
+        );
+        this.issueMerger = new IssueMerger(
+                reviewProperties.getMerge().getSimilarityThreshold(),
+                reviewProperties.getMerge().getLineWindow()
+        );
+        this.meterRegistry = meterRegistry;
+        for (StaticAnalyzer analyzer : staticAnalyzers) {
+            analyzerTimers.put(analyzer, Timer.builder("review.static.analyzer")
+                    .tag("analyzer", analyzer.getClass().getSimpleName())
+                    .register(meterRegistry));
+        }
+        this.staticStageTimer = Timer.builder("review.stage").tag("stage", "static").register(meterRegistry);
+        this.aiStageTimer = Timer.builder("review.stage").tag("stage", "ai").register(meterRegistry);
     }
 
     public CodeValidationResponse review(CodeValidationRequest request) {
-        CodeSubmission submission = new CodeSubmission(
-                request.sourceCode(),
-                request.filePath(),
-                request.context(),
-                defaultLanguage(request.language())
+        return reviewAsync(request).block();
+    }
+
+    public Mono<CodeValidationResponse> reviewAsync(CodeValidationRequest request) {
+        return Mono.defer(() -> {
+            CodeSubmission submission = toSubmission(request);
+
+            ScanResult scan = validateSubmission(submission);
+
+            return staticStage(submission, scan).flatMap(staticIssues ->
+                    aiStageUnlessDecided(submission, staticIssues, scan, this::aiStage)
+                            .map(aiResult -> completeReview(submission, staticIssues, aiResult)));
+        });
+    }
+
+    public Mono<CodeValidationResponse> reviewIncrementalAsync(IncrementalReviewRequest request) {
+        return Mono.defer(() -> {
+            if (request.diff() == null && request.sourceCode() == null) {
+                throw new ValidationException("INCREMENTAL_INPUT_MISSING", "diff 또는 sourceCode 중 하나가 필요합니다.");
+            }
+            Optional<StoredReview> base = resultStore.find(request.baseContentHash());
+            if (base.isEmpty()) {
+                if (request.sourceCode() == null) {
+                    throw new ResourceNotFoundException(
+                            "BASE_REVIEW_NOT_FOUND", "기준 리뷰 결과가 없거나 만료되었습니다. 전체 소스로 다시 요청하세요.");
+                }
+                logger.info("기준 리뷰 결과가 없어 전체 리뷰를 수행합니다. baseContentHash={}", request.baseContentHash());
+                meterRegistry.counter("review.incremental", "mode", "fallback").increment();
+                return reviewAsync(new CodeValidationRequest(
+                        request.sourceCode(), request.filePath(), request.context(), request.language()));
+            }
+
+            StoredReview stored = base.get();
+            SourceDelta delta = applyChange(stored.source(), request);
+            CodeSubmission submission = new CodeSubmission(
+                    delta.source(),
+                    request.filePath(),
+                    request.context(),
+                    request.language() == null ? stored.language() : defaultLanguage(request.language())
+            );
+
+            ScanResult scan = validateSubmission(submission);
+
+            return staticStage(submission, scan).flatMap(staticIssues ->
+                    aiStageUnlessDecided(submission, staticIssues, scan,
+                            tiered -> incrementalAiStage(tiered, stored, delta))
+                            .map(aiResult -> completeReview(submission, staticIssues, aiResult)));
+        });
+    }
+
+    private SourceDelta applyChange(String baseSource, IncrementalReviewRequest request) {
+        if (request.diff() == null) {
+            return SourceDelta.between(baseSource, request.sourceCode());
+        }
+        try {
+            return UnifiedDiff.apply(baseSource, request.diff());
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException("DIFF_NOT_APPLICABLE", ex.getMessage());
+        }
+    }
+
+    private Mono<AiAnalysisResult> incrementalAiStage(
+            CodeSubmission submission,
+            StoredReview stored,
+            SourceDelta delta
+    ) {
+        if (!aiAnalysisService.isEnabled() || stored.aiStatus() != AiAnalysisStatus.COMPLETED) {
+            meterRegistry.counter("review.incremental", "mode", "full").increment();
+            return aiStage(submission);
+        }
+        if (delta.isUnchanged()) {
+            meterRegistry.counter("review.incremental", "mode", "unchanged").increment();
+            return Mono.just(AiAnalysisResult.completed(stored.aiIssues()));
+        }
+
+        List<SourceChunk> regions = delta.regions(reviewProperties.getIncremental().getContextLines());
+        int regionLength = regions.stream().mapToInt(region -> region.source().length()).sum();
+        if (regionLength >= submission.sourceCode().length()) {
+            meterRegistry.counter("review.incremental", "mode", "full").increment();
+            return aiStage(submission);
+        }
+        meterRegistry.counter("review.incremental", "mode", "partial").increment();
+        logger.info("변경 구간만 AI 분석합니다. regions={}, analyzedLength={}, totalLength={}",
+                regions.size(), regionLength, submission.sourceCode().length());
+
+        List<Issue> carried = new ArrayList<>(stored.aiIssues().size());
+        for (Issue issue : stored.aiIssues()) {
+            if (issue.line() == null) {
+                continue;
+            }
+            Integer line = delta.toNewLine(issue.line());
+            boolean reanalyzed = line != null && regions.stream()
+                    .anyMatch(region -> line >= region.startLine() && line <= region.endLine());
+            if (line != null && !reanalyzed) {
+                carried.add(new Issue(issue.type(), issue.severity(), issue.message(), line, issue.source()));
+            }
+        }
+
+        return boundedAiStage(Flux.fromIterable(regions)
+                .flatMap(region -> aiAnalysisService.analyze(chunkSubmission(submission, region))
+                        .map(result -> remapLines(result, region)), reviewProperties.getChunking().getAiConcurrency())
+                .concatWith(Mono.just(AiAnalysisResult.completed(carried)))
+                .collectList()
+                .map(this::combineChunkResults), aiTimeoutSeconds(submission));
+    }
+
+    public Flux<ReviewStreamEvent> reviewStream(CodeValidationRequest request) {
+        return Flux.defer(() -> {
+            CodeSubmission submission = toSubmission(request);
+
+            ScanResult scan = validateSubmission(submission);
+
+            return staticStage(submission, scan).flatMapMany(staticIssues -> {
+                DecisionResult provisional = policyEngine.decide(staticIssues);
+                String shortCircuit = shortCircuitReason(provisional, scan);
+                if (shortCircuit != null) {
+                    recordShortCircuit(shortCircuit);
+                    return Flux.just(
+                            ReviewStreamEvent.staticIssues(staticIssues),
+                            ReviewStreamEvent.provisionalDecision(provisional),
+                            ReviewStreamEvent.result(completeReview(
+                                    submission, staticIssues, AiAnalysisResult.shortCircuited()))
+                    );
+                }
+                CodeSubmission tiered = selectTier(submission, staticIssues);
+                if (tiered.aiTier() == AiTier.SKIP) {
+                    return Flux.just(
+                            ReviewStreamEvent.staticIssues(staticIssues),
+                            ReviewStreamEvent.provisionalDecision(provisional),
+                            ReviewStreamEvent.result(completeReview(
+                                    submission, staticIssues, AiAnalysisResult.skipped()))
+                    );
+                }
+                int aiTimeoutSeconds = aiTimeoutSeconds(tiered);
+                List<Issue> aiIssues = new ArrayList<>();
+                AtomicReference<AiAnalysisStatus> aiStatus = new AtomicReference<>(
+                        aiAnalysisService.isEnabled() ? AiAnalysisStatus.COMPLETED : AiAnalysisStatus.SKIPPED);
+                Flux<Issue> aiIssueFlux;
+                if (isChunked(tiered)) {
+                    Set<Issue> seen = ConcurrentHashMap.newKeySet();
+                    aiIssueFlux = chunkedAiAnalysis(tiered)
+                            .doOnNext(result -> {
+                                if (result.status() == AiAnalysisStatus.DEGRADED) {
+                                    aiStatus.set(AiAnalysisStatus.DEGRADED);
+                                }
+                            })
+                            .flatMapIterable(AiAnalysisResult::issues)
+                            .filter(seen::add);
+                } else {
+                    aiIssueFlux = aiAnalysisService.analyzeStream(tiered);
+                }
+                Flux<ReviewStreamEvent> aiEvents = aiIssueFlux
+                        .takeUntilOther(Mono.delay(Duration.ofSeconds(aiTimeoutSeconds))
+                                .doOnNext(tick -> {
+                                    logger.warn("AI 스트리밍 분석이 제한 시간({}초)을 초과했습니다.", aiTimeoutSeconds);
+                                    meterRegistry.counter("review.ai.timeouts").increment();
+                                    aiStatus.set(AiAnalysisStatus.DEGRADED);
+                                }))
+                        .onErrorResume(ex -> {
+                            aiStatus.set(AiAnalysisStatus.DEGRADED);
+                            return Flux.empty();
+                        })
+                        .doOnNext(aiIssues::add)
+                        .map(ReviewStreamEvent::aiIssue);
+                return Flux.concat(
+                        Flux.just(
+                                ReviewStreamEvent.staticIssues(staticIssues),
+                                ReviewStreamEvent.provisionalDecision(provisional)
+                        ),
+                        aiEvents,
+                        Mono.fromSupplier(() -> ReviewStreamEvent.result(completeReview(
+                                submission, staticIssues, new AiAnalysisResult(aiIssues, aiStatus.get()))))
+                );
+            });
+        });
+    }
+
+    public Mono<CodeBatchValidationResponse> reviewBatchAsync(CodeBatchValidationRequest request) {
+        return Mono.defer(() -> {
+            List<CodeSubmission> submissions = request.files().stream()
+                    .map(this::toSubmission)
+                    .toList();
+            if (submissions.size() > reviewProperties.getMaxBatchFiles()) {
+                throw new ValidationException("BATCH_TOO_LARGE", "한 번에 검토할 수 있는 파일 수를 초과했습니다.");
+            }
+
+            return Flux.fromIterable(submissions)
+                    .flatMapSequential(submission -> Mono.fromCallable(() -> validateBatchFile(submission))
+                            .subscribeOn(Schedulers.parallel()), reviewProperties.getBatchConcurrency())
+                    .collectList()
+                    .flatMap(checked -> {
+                        List<Integer> accepted = new ArrayList<>(submissions.size());
+                        for (int i = 0; i < checked.size(); i++) {
+                            if (checked.get(i).rejection() == null) {
+                                accepted.add(i);
+                            }
+                        }
+                        return reviewBatchFiles(
+                                accepted.stream().map(submissions::get).toList(),
+                                accepted.stream().map(index -> checked.get(index).scan()).toList()
+                        ).map(reviewed -> {
+                            List<FileValidationResult> files = new ArrayList<>(submissions.size());
+                            Iterator<FileValidationResult> next = reviewed.iterator();
+                            for (int i = 0; i < submissions.size(); i++) {
+                                ValidationException rejection = checked.get(i).rejection();
+                                files.add(rejection == null
+                                        ? next.next()
+                                        : rejectedFile(submissions.get(i), rejection));
+                            }
+                            return new CodeBatchValidationResponse(aggregateDecision(files), files);
+                        });
+                    });
+        });
+    }
+
+    private Mono<List<FileValidationResult>> reviewBatchFiles(
+            List<CodeSubmission> submissions,
+            List<ScanResult> scans
+    ) {
+        if (submissions.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        return batchStaticStage(submissions, scans).flatMap(staticIssues -> {
+            List<AiAnalysisResult> aiResults = new ArrayList<>(
+                    Collections.nCopies(submissions.size(), AiAnalysisResult.shortCircuited()));
+            List<Integer> pending = new ArrayList<>(submissions.size());
+            List<CodeSubmission> pendingSubmissions = new ArrayList<>(submissions.size());
+            for (int i = 0; i < submissions.size(); i++) {
+                String shortCircuit = shortCircuitReason(policyEngine.decide(staticIssues.get(i)), scans.get(i));
+                if (shortCircuit != null) {
+                    recordShortCircuit(shortCircuit);
+                    continue;
+                }
+                CodeSubmission tiered = selectTier(submissions.get(i), staticIssues.get(i));
+                if (tiered.aiTier() == AiTier.SKIP) {
+                    aiResults.set(i, AiAnalysisResult.skipped());
+                } else {
+                    pending.add(i);
+                    pendingSubmissions.add(tiered);
+                }
+            }
+            return batchAiStage(pendingSubmissions)
+                    .map(pendingResults -> {
+                        for (int i = 0; i < pending.size(); i++) {
+                            aiResults.set(pending.get(i), pendingResults.get(i));
+                        }
+                        return buildBatchFiles(submissions, staticIssues, aiResults);
+                    });
+        });
+    }
+
+    private Mono<AiAnalysisResult> aiStageUnlessDecided(
+            CodeSubmission submission,
+            List<Issue> staticIssues,
+            ScanResult scan,
+            Function<CodeSubmission, Mono<AiAnalysisResult>> aiStage
+    ) {
+        String shortCircuit = shortCircuitReason(policyEngine.decide(staticIssues), scan);
+        if (shortCircuit != null) {
+            recordShortCircuit(shortCircuit);
+            return Mono.just(AiAnalysisResult.shortCircuited());
+        }
+        CodeSubmission tiered = selectTier(submission, staticIssues);
+        if (tiered.aiTier() == AiTier.SKIP) {
+            return Mono.just(AiAnalysisResult.skipped());
+        }
+        return aiStage.apply(tiered);
+    }
+
+    private CodeSubmission selectTier(CodeSubmission submission, List<Issue> staticIssues) {
+        AiTier tier = aiTierSelector.select(submission, staticIssues);
+        if (tier == null) {
+            return submission;
+        }
+        if (tier == AiTier.SKIP) {
+            logger.info("AI 분석 생략 경로로 분류되어 AI 분석을 건너뜁니다. filePath={}", submission.filePath());
+        }
+        meterRegistry.counter("review.ai.tier", "tier", tier.name()).increment();
+        return submission.withAiTier(tier);
+    }
+
+    private int aiTimeoutSeconds(CodeSubmission submission) {
+        AiTierProperties.Tier tier = aiTierSelector.settings(submission.aiTier());
+        if (tier == null || tier.getTimeoutSeconds() <= 0) {
+            return reviewProperties.getAiTimeoutSeconds();
+        }
+        return Math.min(tier.getTimeoutSeconds(), reviewProperties.getAiTimeoutSeconds());
+    }
+
+    private String shortCircuitReason(DecisionResult staticDecision, ScanResult scan) {
+        ReviewProperties.ShortCircuit settings = reviewProperties.getShortCircuit();
+        if (!aiAnalysisService.isEnabled()) {
+            return null;
+        }
+        if (settings.isSkipAiWhenBlocked() && staticDecision.status() == DecisionStatus.BLOCKED) {
+            return "blocked";
+        }
+        if (settings.getTrivialMaxTokens() > 0
+                && staticDecision.status() == DecisionStatus.ALLOWED
+                && codeTokenCount(scan) <= settings.getTrivialMaxTokens()) {
+            return "trivial";
+        }
+        return null;
+    }
+
+    private int codeTokenCount(ScanResult scan) {
+        SourceTokens tokens = scan.tokens();
+        int count = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            if (tokens.kind(i) != TokenKind.COMMENT) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void recordShortCircuit(String reason) {
+        logger.info("정적 분석만으로 판정이 확정되어 AI 분석을 생략합니다. reason={}", reason);
+        meterRegistry.counter("review.ai.short.circuit", "reason", reason).increment();
+    }
+
+    private Mono<List<List<Issue>>> batchStaticStage(List<CodeSubmission> submissions, List<ScanResult> scans) {
+        return Flux.range(0, submissions.size())
+                .flatMapSequential(index -> staticStage(submissions.get(index), scans.get(index)),
+                        reviewProperties.getBatchConcurrency())
+                .collectList();
+    }
+
+    private Mono<List<AiAnalysisResult>> batchAiStage(List<CodeSubmission> submissions) {
+        Map<Integer, List<Integer>> byTimeout = new LinkedHashMap<>();
+        for (int i = 0; i < submissions.size(); i++) {
+            byTimeout.computeIfAbsent(aiTimeoutSeconds(submissions.get(i)), key -> new ArrayList<>()).add(i);
+        }
+        AiAnalysisResult[] results = new AiAnalysisResult[submissions.size()];
+        return Flux.fromIterable(byTimeout.entrySet())
+                .flatMap(entry -> boundedBatchAiStage(
+                        entry.getValue().stream().map(submissions::get).toList(), entry.getKey())
+                        .doOnNext(groupResults -> {
+                            for (int i = 0; i < entry.getValue().size(); i++) {
+                                results[entry.getValue().get(i)] = groupResults.get(i);
+                            }
+                        }))
+                .then(Mono.fromSupplier(() -> Arrays.asList(results)));
+    }
+
+    private Mono<List<AiAnalysisResult>> boundedBatchAiStage(List<CodeSubmission> submissions, int timeoutSeconds) {
+        return batchAiAnalysis(submissions)
+                .timeout(Duration.ofSeconds(timeoutSeconds))
+                .onErrorResume(TimeoutException.class, ex -> {
+                    logger.warn("AI 배치 분석이 제한 시간({}초)을 초과하여 정적 분석 결과만 사용합니다.", timeoutSeconds);
+                    meterRegistry.counter("review.ai.timeouts").increment();
+                    return Mono.just(Collections.nCopies(submissions.size(), AiAnalysisResult.degraded()));
+                });
+    }
+
+    private BatchFile validateBatchFile(CodeSubmission submission) {
+        try {
+            return new BatchFile(validateSubmission(submission), null);
+        } catch (ValidationException ex) {
+            logger.info("배치 파일을 검토 대상에서 제외합니다. filePath={}, code={}", submission.filePath(), ex.getCode());
+            meterRegistry.counter("review.batch.rejected.files", "code", ex.getCode()).increment();
+            return new BatchFile(null, ex);
+        }
+    }
+
+    private FileValidationResult rejectedFile(CodeSubmission submission, ValidationException rejection) {
+        DecisionResult decision = new DecisionResult(DecisionStatus.BLOCKED, rejection.getMessage(), List.of());
+        recordDecision(decision);
+        return new FileValidationResult(
+                submission.filePath(),
+                new CodeValidationResponse(
+                        decision,
+                        new AnalysisSummary(List.of(), 0, true),
+                        List.of(),
+                        AiAnalysisStatus.SKIPPED,
+                        null
+                ),
+                new ErrorResponse(rejection.getCode(), rejection.getMessage())
         );
+    }
 
-        validateSubmission(submission);
+    private List<FileValidationResult> buildBatchFiles(
+            List<CodeSubmission> submissions,
+            List<List<Issue>> staticIssues,
+            List<AiAnalysisResult> aiResults
+    ) {
+        List<FileValidationResult> files = new ArrayList<>(submissions.size());
+        for (int i = 0; i < submissions.size(); i++) {
+            AiAnalysisResult aiResult = aiResults.get(i);
+            files.add(new FileValidationResult(
+                    submissions.get(i).filePath(),
+                    completeReview(submissions.get(i), staticIssues.get(i), aiResult)
+            ));
+        }
+        return files;
+    }
 
-        List<Issue> issues = new ArrayList<>();
-        for (StaticAnalyzer analyzer : staticAnalyzers) {
-            issues.addAll(analyzer.analyze(submission));
+    private DecisionResult aggregateDecision(List<FileValidationResult> files) {
+        FileValidationResult worst = null;
+        Set<String> triggered = new LinkedHashSet<>();
+        for (FileValidationResult file : files) {
+            DecisionResult decision = file.result().decision();
+            triggered.addAll(decision.triggeredRules());
+            if (worst == null || decision.status().ordinal() > worst.result().decision().status().ordinal()) {
+                worst = file;
+            }
         }
+        DecisionResult worstDecision = worst.result().decision();
+        String reason = worstDecision.status() == DecisionStatus.ALLOWED
+                ? worstDecision.reason()
+                : worst.filePath() + ": " + worstDecision.reason();
+        return new DecisionResult(worstDecision.status(), reason, List.copyOf(triggered));
+    }
 
-        issues.addAll(aiAnalysisService.analyze(submission));
+    private CodeValidationResponse completeReview(
+            CodeSubmission submission,
+            List<Issue> staticIssues,
+            AiAnalysisResult aiResult
+    ) {
+        String contentHash = resultStore.save(new StoredReview(
+                submission.sourceCode(),
+                submission.language(),
+                List.copyOf(staticIssues),
+                List.copyOf(aiResult.issues()),
+                aiResult.status()
+        ));
+        return buildResponse(mergeIssues(staticIssues, aiResult.issues()), aiResult.status(), contentHash);
+    }
 
+    private CodeValidationResponse buildResponse(List<Issue> issues, AiAnalysisStatus aiStatus, String contentHash) {
         DecisionResult decision = policyEngine.decide(issues);
+        recordDecision(decision);
         AnalysisSummary summary = new AnalysisSummary(
                 issues,
                 calculateRiskScore(issues),
@@ -69,23 +567,247 @@ public class CodeValidationService {
         return new CodeValidationResponse(
                 decision,
                 summary,
-                buildSuggestions(issues)
+                buildSuggestions(issues),
+                aiStatus,
+                contentHash
         );
     }
 
-    private void validateSubmission(CodeSubmission submission) {
+    private void recordDecision(DecisionResult decision) {
+        meterRegistry.counter("review.decisions", "status", decision.status().name()).increment();
+        for (String ruleId : decision.triggeredRules()) {
+            meterRegistry.counter("policy.rule.triggered", "rule", ruleId).increment();
+        }
+    }
+
+    private Mono<List<Issue>> staticStage(CodeSubmission submission, ScanResult scan) {
+        return timed(Flux.fromIterable(staticAnalyzers)
+                .flatMapSequential(analyzer -> Mono.fromCallable(() -> analyzerTimers.get(analyzer)
+                                .record(() -> analyzer.analyze(submission, scan)))
+                        .subscribeOn(Schedulers.parallel()))
+                .flatMapIterable(issues -> issues)
+                .collectList()
+                .map(this::deduplicate)
+                .timeout(Duration.ofMillis(reviewProperties.getStaticTimeoutMillis()))
+                .onErrorMap(TimeoutException.class, ex -> new ValidationException(
+                        "STATIC_ANALYSIS_TIMEOUT", "정적 분석이 제한 시간 내에 완료되지 않았습니다.")), staticStageTimer);
+    }
+
+    private Mono<AiAnalysisResult> aiStage(CodeSubmission submission) {
+        return boundedAiStage(aiAnalysis(submission), aiTimeoutSeconds(submission));
+    }
+
+    private Mono<AiAnalysisResult> boundedAiStage(Mono<AiAnalysisResult> analysis, int timeoutSeconds) {
+        return timed(analysis
+                .timeout(Duration.ofSeconds(timeoutSeconds))
+                .onErrorResume(TimeoutException.class, ex -> {
+                    logger.warn("AI 분석이 제한 시간({}초)을 초과하여 정적 분석 결과만 사용합니다.", timeoutSeconds);
+                    meterRegistry.counter("review.ai.timeouts").increment();
+                    return Mono.just(AiAnalysisResult.degraded());
+                }), aiStageTimer);
+    }
+
+    private Mono<AiAnalysisResult> aiAnalysis(CodeSubmission submission) {
+        if (!isChunked(submission)) {
+            return aiAnalysisService.analyze(submission);
+        }
+        return chunkedAiAnalysis(submission)
+                .collectList()
+                .map(this::combineChunkResults);
+    }
+
+    private Mono<List<AiAnalysisResult>> batchAiAnalysis(List<CodeSubmission> submissions) {
+        List<Integer> chunked = new ArrayList<>();
+        List<CodeSubmission> regular = new ArrayList<>();
+        for (int i = 0; i < submissions.size(); i++) {
+            if (isChunked(submissions.get(i))) {
+                chunked.add(i);
+            } else {
+                regular.add(submissions.get(i));
+            }
+        }
+        if (chunked.isEmpty()) {
+            return aiAnalysisService.analyzeBatch(submissions, reviewProperties.getBatchConcurrency());
+        }
+        return Mono.zip(
+                aiAnalysisService.analyzeBatch(regular, reviewProperties.getBatchConcurrency()),
+                Flux.fromIterable(chunked)
+                        .flatMapSequential(index -> aiAnalysis(submissions.get(index)),
+                                reviewProperties.getBatchConcurrency())
+                        .collectList(),
+                (regularResults, chunkedResults) -> {
+                    List<AiAnalysisResult> results = new ArrayList<>(submissions.size());
+                    int regularIndex = 0;
+                    int chunkedIndex = 0;
+                    for (int i = 0; i < submissions.size(); i++) {
+                        if (chunkedIndex < chunked.size() && chunked.get(chunkedIndex) == i) {
+                            results.add(chunkedResults.get(chunkedIndex++));
+                        } else {
+                            results.add(regularResults.get(regularIndex++));
+                        }
+                    }
+                    return results;
+                });
+    }
+
+    private boolean isChunked(CodeSubmission submission) {
+        return submission.sourceCode().length() > reviewProperties.getChunking().getChunkSize();
+    }
+
+    private Flux<AiAnalysisResult> chunkedAiAnalysis(CodeSubmission submission) {
+        ReviewProperties.Chunking chunking = reviewProperties.getChunking();
+        List<SourceChunk> chunks = sourceChunker.split(submission.sourceCode());
+        List<SourceChunk> selected = new ArrayList<>(chunks.size());
+        int budgetUsed = 0;
+        for (SourceChunk chunk : chunks) {
+            int tokens = TokenEstimator.estimate(chunk.source());
+            if (budgetUsed + tokens > chunking.getAiTokenBudget()) {
+                break;
+            }
+            selected.add(chunk);
+            budgetUsed += tokens;
+        }
+        logger.info("큰 소스를 조각으로 나누어 AI 분석합니다. length={}, chunks={}, analyzed={}",
+                submission.sourceCode().length(), chunks.size(), selected.size());
+
+        Flux<AiAnalysisResult> results = Flux.fromIterable(selected)
+                .flatMap(chunk -> aiAnalysisService.analyze(chunkSubmission(submission, chunk))
+                        .map(result -> remapLines(result, chunk)), chunking.getAiConcurrency());
+        if (selected.size() < chunks.size()) {
+            logger.warn("AI 토큰 예산({})을 넘는 조각은 분석하지 않습니다. skipped={}",
+                    chunking.getAiTokenBudget(), chunks.size() - selected.size());
+            return results.concatWith(Mono.just(AiAnalysisResult.degraded()));
+        }
+        return results;
+    }
+
+    private CodeSubmission chunkSubmission(CodeSubmission submission, SourceChunk chunk) {
+        String range = "%d-%d행 조각".formatted(chunk.startLine(), chunk.endLine());
+        return new CodeSubmission(
+                chunk.source(),
+                submission.filePath(),
+                submission.context() == null ? range : submission.context() + " (" + range + ")",
+                submission.language(),
+                submission.aiProvider(),
+                submission.aiTier()
+        );
+    }
+
+    private AiAnalysisResult remapLines(AiAnalysisResult result, SourceChunk chunk) {
+        List<Issue> remapped = new ArrayList<>(result.issues().size());
+        for (Issue issue : result.issues()) {
+            remapped.add(new Issue(
+                    issue.type(),
+                    issue.severity(),
+                    issue.message(),
+                    issue.line() == null ? null : chunk.toAbsoluteLine(issue.line()),
+                    issue.source()
+            ));
+        }
+        return new AiAnalysisResult(remapped, result.status());
+    }
+
+    private AiAnalysisResult combineChunkResults(List<AiAnalysisResult> results) {
+        Set<Issue> issues = new LinkedHashSet<>();
+        boolean degraded = false;
+        boolean completed = false;
+        for (AiAnalysisResult result : results) {
+            issues.addAll(result.issues());
+            degraded |= result.status() == AiAnalysisStatus.DEGRADED;
+            completed |= result.status() == AiAnalysisStatus.COMPLETED;
+        }
+        AiAnalysisStatus status = degraded ? AiAnalysisStatus.DEGRADED
+                : completed ? AiAnalysisStatus.COMPLETED : AiAnalysisStatus.SKIPPED;
+        return new AiAnalysisResult(List.copyOf(issues), status);
+    }
+
+    private <T> Mono<T> timed(Mono<T> stage, Timer timer) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            AtomicBoolean recorded = new AtomicBoolean();
+            Runnable record = () -> {
+                if (recorded.compareAndSet(false, true)) {
+                    timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            };
+            return stage.doOnSuccess(value -> record.run())
+                    .doOnError(ex -> record.run())
+                    .doOnCancel(record);
+        });
+    }
+
+    private List<Issue> mergeIssues(List<Issue> staticIssues, List<Issue> aiIssues) {
+        List<Issue> combined = new ArrayList<>(staticIssues.size() + aiIssues.size());
+        combined.addAll(staticIssues);
+        combined.addAll(aiIssues);
+        return deduplicate(combined);
+    }
+
+    private List<Issue> deduplicate(List<Issue> issues) {
+        if (!reviewProperties.getMerge().isEnabled()) {
+            return issues;
+        }
+        List<Issue> merged = issueMerger.merge(issues);
+        if (merged.size() < issues.size()) {
+            meterRegistry.counter("review.issues.merged").increment(issues.size() - merged.size());
+        }
+        return merged;
+    }
+
+    private ScanResult validateSubmission(CodeSubmission submission) {
         String source = submission.sourceCode();
         if (source == null || source.isBlank()) {
             throw new ValidationException("SOURCE_EMPTY", "소스 코드가 비어 있습니다.");
         }
-        if (source.length() > MAX_SOURCE_LENGTH) {
+        if (source.length() > reviewProperties.getMaxSourceLength()) {
             throw new ValidationException("SOURCE_TOO_LARGE", "소스 코드가 너무 큽니다.");
         }
+        if (submission.aiProvider() != null && !aiAnalysisService.isProviderRegistered(submission.aiProvider())) {
+            throw new ValidationException("AI_PROVIDER_UNKNOWN", "등록되지 않은 AI 제공자입니다: " + submission.aiProvider());
+        }
+        ScanResult scan = patternScanner().scan(source, submission.language());
         for (String pattern : FORBIDDEN_PATTERNS) {
-            if (source.contains(pattern)) {
+            if (scan.contains(pattern, SourceRegion.CODE)) {
                 throw new ValidationException("FORBIDDEN_PATTERN", "금지된 패턴이 포함되어 있습니다: " + pattern);
             }
         }
+        return scan;
+    }
+
+    private PatternScanner patternScanner() {
+        CompiledScanner current = compiledScanner;
+        if (current.isCurrent(staticAnalyzers)) {
+            return current.scanner();
+        }
+        synchronized (this) {
+            if (!compiledScanner.isCurrent(staticAnalyzers)) {
+                compiledScanner = compileScanner(staticAnalyzers);
+                logger.info("분석기 패턴이 바뀌어 패턴 스캐너를 다시 컴파일했습니다. patternCount={}",
+                        compiledScanner.scanner().patterns().size());
+            }
+            return compiledScanner.scanner();
+        }
+    }
+
+    private CompiledScanner compileScanner(List<StaticAnalyzer> analyzers) {
+        Set<String> patterns = new LinkedHashSet<>(FORBIDDEN_PATTERNS);
+        List<Set<String>> sources = new ArrayList<>(analyzers.size());
+        for (StaticAnalyzer analyzer : analyzers) {
+            Set<String> analyzerPatterns = analyzer.patterns();
+            sources.add(analyzerPatterns);
+            patterns.addAll(analyzerPatterns);
+        }
+        return new CompiledScanner(sources, PatternScanner.compile(patterns));
+    }
+
+    private CodeSubmission toSubmission(CodeValidationRequest request) {
+        return new CodeSubmission(
+                request.sourceCode(),
+                request.filePath(),
+                request.context(),
+                defaultLanguage(request.language()),
+                request.aiProvider()
+        );
     }
 
     private String defaultLanguage(String language) {
@@ -121,4 +843,19 @@ public class CodeValidationService {
         }
         return suggestions;
     }
+
+    private record BatchFile(ScanResult scan, ValidationException rejection) {
+    }
+
+    private record CompiledScanner(List<Set<String>> sources, PatternScanner scanner) {
+
+        boolean isCurrent(List<StaticAnalyzer> analyzers) {
+            for (int i = 0; i < analyzers.size(); i++) {
+                if (analyzers.get(i).patterns() != sources.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
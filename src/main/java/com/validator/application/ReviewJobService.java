@@ -0,0 +1,288 @@
+package com.validator.application;
+
+import com.validator.domain.model.ReviewJobStatus;
+import com.validator.dto.request.ReviewJobRequest;
+import com.validator.dto.response.CodeValidationResponse;
+import com.validator.dto.response.ReviewJobResponse;
+import com.validator.exception.ErrorResponse;
+import com.validator.exception.OverloadException;
+import com.validator.exception.ResourceNotFoundException;
+import com.validator.exception.ValidationException;
+import com.validator.infrastructure.config.ReviewJobProperties;
+import com.validator.infrastructure.job.ReviewJob;
+import com.validator.infrastructure.job.ReviewJobCallbackClient;
+import com.validator.infrastructure.job.ReviewJobStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class ReviewJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewJobService.class);
+    private static final int DEFAULT_PRIORITY = 5;
+
+    private final CodeValidationService codeValidationService;
+    private final ReviewJobStore store;
+    private final ReviewJobCallbackClient callbackClient;
+    private final ReviewJobProperties properties;
+    private final Map<String, ReviewJob> jobs;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger queued = new AtomicInteger();
+    private ThreadPoolExecutor executor;
+    private ScheduledExecutorService sweeper;
+    private volatile boolean stopping;
+
+    public ReviewJobService(
+            CodeValidationService codeValidationService,
+            ReviewJobStore store,
+            ReviewJobCallbackClient callbackClient,
+            ReviewJobProperties properties
+    ) {
+        this.codeValidationService = codeValidationService;
+        this.store = store;
+        this.callbackClient = callbackClient;
+        this.properties = properties;
+        this.jobs = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ReviewJob> eldest) {
+                return size() > properties.getMaxCachedJobs();
+            }
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                properties.getWorkers(),
+                properties.getWorkers(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "review-job-worker-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        recover();
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "review-job-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(1, properties.getSweepIntervalMinutes());
+        sweeper.scheduleWithFixedDelay(this::sweepSafely, interval, interval, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopping = true;
+        sweeper.shutdownNow();
+        executor.shutdown();
+        executor.getQueue().clear();
+        try {
+            if (!executor.awaitTermination(properties.getShutdownTimeoutSeconds(), TimeUnit.SECONDS)) {
+                logger.warn("리뷰 작업 스레드가 제한 시간 내에 종료되지 않았습니다. 진행 중인 작업은 재시작 후 다시 처리합니다.");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public ReviewJobResponse submit(ReviewJobRequest request) {
+        if (request.callbackUrl() != null && !callbackClient.isAllowed(request.callbackUrl())) {
+            throw new ValidationException("CALLBACK_NOT_ALLOWED", "허용되지 않은 콜백 호스트입니다: " + request.callbackUrl());
+        }
+        if (queued.incrementAndGet() > properties.getMaxQueued()) {
+            queued.decrementAndGet();
+            throw new OverloadException("JOB_QUEUE_FULL", "대기 중인 리뷰 작업이 너무 많습니다. 잠시 후 다시 시도하세요.",
+                    properties.getRetryAfterSeconds());
+        }
+        ReviewJob job = ReviewJob.queued(
+                UUID.randomUUID().toString(),
+                request.priority() == null ? DEFAULT_PRIORITY : request.priority(),
+                sequence.incrementAndGet(),
+                request.review(),
+                request.callbackUrl(),
+                Instant.now()
+        );
+        try {
+            store.save(job);
+            jobs.put(job.id(), job);
+            executor.execute(new JobTask(job));
+        } catch (RuntimeException ex) {
+            queued.decrementAndGet();
+            jobs.remove(job.id());
+            throw ex;
+        }
+        logger.info("리뷰 작업을 접수했습니다. jobId={}, priority={}, queued={}", job.id(), job.priority(), queued.get());
+        return toResponse(job);
+    }
+
+    public ReviewJobResponse get(String jobId) {
+        ReviewJob job = jobs.get(jobId);
+        if (job == null) {
+            job = store.load(jobId).orElseThrow(() ->
+                    new ResourceNotFoundException("JOB_NOT_FOUND", "리뷰 작업을 찾을 수 없습니다: " + jobId));
+        }
+        return toResponse(job);
+    }
+
+    int cachedJobCount() {
+        return jobs.size();
+    }
+
+    void sweepExpired() {
+        Instant expiry = expiry();
+        int removed = 0;
+        for (ReviewJob job : store.loadAll()) {
+            if (isExpired(job, expiry)) {
+                jobs.remove(job.id());
+                store.delete(job.id());
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            logger.info("보존 기간이 지난 리뷰 작업을 정리했습니다. removed={}", removed);
+        }
+    }
+
+    private void recover() {
+        Instant expiry = expiry();
+        List<ReviewJob> stored = store.loadAll().stream()
+                .sorted(Comparator.comparingLong(ReviewJob::sequence))
+                .toList();
+        int requeued = 0;
+        for (ReviewJob job : stored) {
+            sequence.accumulateAndGet(job.sequence(), Math::max);
+            if (job.status().isFinished()) {
+                if (isExpired(job, expiry)) {
+                    store.delete(job.id());
+                } else {
+                    jobs.put(job.id(), job);
+                }
+                continue;
+            }
+            ReviewJob pending = job.withStatus(ReviewJobStatus.QUEUED);
+            store.save(pending);
+            jobs.put(pending.id(), pending);
+            enqueue(pending);
+            requeued++;
+        }
+        logger.info("저장된 리뷰 작업을 복구했습니다. total={}, requeued={}", stored.size(), requeued);
+    }
+
+    private Instant expiry() {
+        return Instant.now().minus(Duration.ofMinutes(properties.getRetentionMinutes()));
+    }
+
+    private boolean isExpired(ReviewJob job, Instant expiry) {
+        return job.status().isFinished() && job.completedAt() != null && job.completedAt().isBefore(expiry);
+    }
+
+    private void enqueue(ReviewJob job) {
+        queued.incrementAndGet();
+        executor.execute(new JobTask(job));
+    }
+
+    private void process(ReviewJob job) {
+        queued.decrementAndGet();
+        ReviewJob running = job.withStatus(ReviewJobStatus.RUNNING);
+        store.save(running);
+        jobs.put(running.id(), running);
+
+        ReviewJob finished;
+        try {
+            CodeValidationResponse result = codeValidationService.review(running.request());
+            finished = running.completed(result, Instant.now());
+        } catch (ValidationException ex) {
+            finished = running.failed(ex.getCode(), ex.getMessage(), Instant.now());
+        } catch (Exception ex) {
+            if (stopping || isInterruption(ex)) {
+                logger.warn("종료 중이라 리뷰 작업을 완료하지 못했습니다. 재시작 후 다시 처리합니다. jobId={}", running.id());
+                return;
+            }
+            logger.error("리뷰 작업 처리 중 오류가 발생했습니다. jobId={}", running.id(), ex);
+            finished = running.failed("INTERNAL_ERROR", "리뷰 작업 처리 중 오류가 발생했습니다.", Instant.now());
+        }
+        store.save(finished);
+        jobs.put(finished.id(), finished);
+        logger.info("리뷰 작업이 끝났습니다. jobId={}, status={}", finished.id(), finished.status());
+
+        if (finished.callbackUrl() != null) {
+            callbackClient.notify(finished.id(), finished.callbackUrl(), toResponse(finished));
+        }
+    }
+
+    private boolean isInterruption(Throwable ex) {
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void sweepSafely() {
+        try {
+            sweepExpired();
+        } catch (RuntimeException ex) {
+            logger.warn("리뷰 작업 정리 중 오류가 발생했습니다.", ex);
+        }
+    }
+
+    private ReviewJobResponse toResponse(ReviewJob job) {
+        return new ReviewJobResponse(
+                job.id(),
+                job.status(),
+                job.priority(),
+                job.createdAt(),
+                job.completedAt(),
+                job.result(),
+                job.errorCode() == null ? null : new ErrorResponse(job.errorCode(), job.errorMessage())
+        );
+    }
+
+    private final class JobTask implements Runnable, Comparable<JobTask> {
+
+        private final ReviewJob job;
+
+        private JobTask(ReviewJob job) {
+            this.job = job;
+        }
+
+        @Override
+        public void run() {
+            process(job);
+        }
+
+        @Override
+        public int compareTo(JobTask other) {
+            int byPriority = Integer.compare(other.job.priority(), job.priority());
+            return byPriority != 0 ? byPriority : Long.compare(job.sequence(), other.job.sequence());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.validator.domain.model;
+
+public enum AiAnalysisStatus {
+    COMPLETED,
+    SKIPPED,
+    SHORT_CIRCUITED,
+    DEGRADED
+}
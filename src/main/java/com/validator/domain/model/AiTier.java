@@ -0,0 +1,7 @@
+package com.validator.domain.model;
+
+public enum AiTier {
+    SKIP,
+    FAST,
+    THOROUGH
+}
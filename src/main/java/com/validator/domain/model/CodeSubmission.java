@@ -4,6 +4,20 @@ public record CodeSubmission(
         String sourceCode,
         String filePath,
         String context,
-        String language
+        String language,
+        String aiProvider,
+        AiTier aiTier
 ) {
+
+    public CodeSubmission(String sourceCode, String filePath, String context, String language) {
+        this(sourceCode, filePath, context, language, null, null);
+    }
+
+    public CodeSubmission(String sourceCode, String filePath, String context, String language, String aiProvider) {
+        this(sourceCode, filePath, context, language, aiProvider, null);
+    }
+
+    public CodeSubmission withAiTier(AiTier tier) {
+        return new CodeSubmission(sourceCode, filePath, context, language, aiProvider, tier);
+    }
 }
@@ -1,10 +1,23 @@
 package com.validator.domain.model;
 
+import java.util.List;
+
 public record Issue(
         IssueType type,
         IssueSeverity severity,
         String message,
         Integer line,
-        IssueSource source
+        IssueSource source,
+        List<IssueSource> sources
 ) {
+
+    public Issue {
+        sources = sources == null || sources.isEmpty()
+                ? (source == null ? List.of() : List.of(source))
+                : List.copyOf(sources);
+    }
+
+    public Issue(IssueType type, IssueSeverity severity, String message, Integer line, IssueSource source) {
+        this(type, severity, message, line, source, null);
+    }
 }
@@ -0,0 +1,12 @@
+package com.validator.domain.model;
+
+public enum ReviewJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
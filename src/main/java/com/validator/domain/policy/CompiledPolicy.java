@@ -0,0 +1,101 @@
+package com.validator.domain.policy;
+
+import com.validator.domain.model.DecisionResult;
+import com.validator.domain.model.DecisionStatus;
+import com.validator.domain.model.Issue;
+import com.validator.domain.model.IssueSeverity;
+import com.validator.domain.model.IssueType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 규칙을 (타입 × 심각도) 누적 카운트 행렬의 인덱스로 미리 컴파일한 정책.
+ * 이슈 목록은 한 번만 순회해 히스토그램을 채우고, 각 규칙은 O(1)로 평가한다.
+ */
+final class CompiledPolicy {
+
+    private static final int SEVERITY_COUNT = IssueSeverity.values().length;
+    private static final int TYPE_COUNT = IssueType.values().length;
+    private static final int TOTAL_ROW = TYPE_COUNT;
+
+    private final List<PolicyRule> rules;
+    private final int[] cellIndexes;
+    private final int[] minCounts;
+
+    private CompiledPolicy(List<PolicyRule> rules, int[] cellIndexes, int[] minCounts) {
+        this.rules = rules;
+        this.cellIndexes = cellIndexes;
+        this.minCounts = minCounts;
+    }
+
+    static CompiledPolicy compile(List<PolicyRule> rules) {
+        List<PolicyRule> snapshot = List.copyOf(rules);
+        int[] cellIndexes = new int[snapshot.size()];
+        int[] minCounts = new int[snapshot.size()];
+        for (int i = 0; i < snapshot.size(); i++) {
+            PolicyRule rule = snapshot.get(i);
+            int row = rule.type() == IssueType.ANY ? TOTAL_ROW : rule.type().ordinal();
+            cellIndexes[i] = row * SEVERITY_COUNT + rule.minSeverity().ordinal();
+            minCounts[i] = rule.minCount();
+        }
+        return new CompiledPolicy(snapshot, cellIndexes, minCounts);
+    }
+
+    List<PolicyRule> rules() {
+        return rules;
+    }
+
+    DecisionResult decide(List<Issue> issues) {
+        int[] counts = countAtLeast(issues);
+
+        List<String> triggered = new ArrayList<>();
+        int blockRule = -1;
+        int warnRule = -1;
+        for (int i = 0; i < rules.size(); i++) {
+            if (counts[cellIndexes[i]] < minCounts[i]) {
+                continue;
+            }
+            PolicyRule rule = rules.get(i);
+            triggered.add(rule.id());
+            if (rule.action() == PolicyAction.BLOCK && blockRule < 0) {
+                blockRule = i;
+            } else if (rule.action() == PolicyAction.WARN && warnRule < 0) {
+                warnRule = i;
+            }
+        }
+
+        if (blockRule >= 0) {
+            return new DecisionResult(DecisionStatus.BLOCKED, reason(blockRule, counts), triggered);
+        }
+        if (warnRule >= 0) {
+            return new DecisionResult(DecisionStatus.WARN_ONLY, reason(warnRule, counts), triggered);
+        }
+        return new DecisionResult(DecisionStatus.ALLOWED, "No blocking issues found", triggered);
+    }
+
+    private String reason(int ruleIndex, int[] counts) {
+        return rules.get(ruleIndex).name() + " (count=" + counts[cellIndexes[ruleIndex]] + ")";
+    }
+
+    private static int[] countAtLeast(List<Issue> issues) {
+        int[] counts = new int[(TYPE_COUNT + 1) * SEVERITY_COUNT];
+        for (Issue issue : issues) {
+            counts[issue.type().ordinal() * SEVERITY_COUNT + issue.severity().ordinal()]++;
+        }
+        int totalBase = TOTAL_ROW * SEVERITY_COUNT;
+        for (int type = 0; type < TYPE_COUNT; type++) {
+            int base = type * SEVERITY_COUNT;
+            for (int severity = SEVERITY_COUNT - 1; severity >= 0; severity--) {
+                counts[totalBase + severity] += counts[base + severity];
+                if (severity < SEVERITY_COUNT - 1) {
+                    counts[base + severity] += counts[base + severity + 1];
+                }
+            }
+        }
+        for (int severity = SEVERITY_COUNT - 2; severity >= 0; severity--) {
+            counts[totalBase + severity] += counts[totalBase + severity + 1];
+        }
+        return counts;
+    }
+}
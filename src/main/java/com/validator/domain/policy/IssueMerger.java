@@ -0,0 +1,160 @@
+package com.validator.domain.policy;
+
+import com.validator.domain.model.Issue;
+import com.validator.domain.model.IssueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 같은 유형이고 줄 위치가 가까우며 메시지가 비슷한 이슈를 하나로 합친다.
+ * 메시지는 공백과 문장부호를 뺀 문자 3-gram 해시 집합(shingle)으로 바꿔 Jaccard 유사도로 비교하고,
+ * 합쳐진 이슈는 가장 높은 심각도의 이슈를 대표로 삼아 기여한 출처를 모두 기록한다.
+ */
+public final class IssueMerger {
+
+    private static final int SHINGLE_SIZE = 3;
+
+    private final double similarityThreshold;
+    private final int lineWindow;
+
+    public IssueMerger(double similarityThreshold, int lineWindow) {
+        this.similarityThreshold = similarityThreshold;
+        this.lineWindow = Math.max(0, lineWindow);
+    }
+
+    public List<Issue> merge(List<Issue> issues) {
+        if (issues.size() < 2) {
+            return issues;
+        }
+        List<Cluster> clusters = new ArrayList<>(issues.size());
+        for (Issue issue : issues) {
+            int[] shingles = shingles(issue.message());
+            Cluster target = null;
+            for (Cluster cluster : clusters) {
+                if (cluster.accepts(issue, shingles)) {
+                    target = cluster;
+                    break;
+                }
+            }
+            if (target == null) {
+                clusters.add(new Cluster(issue, shingles));
+            } else {
+                target.add(issue, shingles);
+            }
+        }
+        if (clusters.size() == issues.size()) {
+            return issues;
+        }
+        List<Issue> merged = new ArrayList<>(clusters.size());
+        for (Cluster cluster : clusters) {
+            merged.add(cluster.toIssue());
+        }
+        return merged;
+    }
+
+    static int[] shingles(String message) {
+        if (message == null) {
+            return new int[0];
+        }
+        StringBuilder normalized = new StringBuilder(message.length());
+        message.toLowerCase(Locale.ROOT).codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(normalized::appendCodePoint);
+        if (normalized.length() <= SHINGLE_SIZE) {
+            return new int[] {normalized.toString().hashCode()};
+        }
+        int[] hashes = new int[normalized.length() - SHINGLE_SIZE + 1];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = normalized.substring(i, i + SHINGLE_SIZE).hashCode();
+        }
+        Arrays.sort(hashes);
+        int unique = 0;
+        for (int i = 0; i < hashes.length; i++) {
+            if (i == 0 || hashes[i] != hashes[i - 1]) {
+                hashes[unique++] = hashes[i];
+            }
+        }
+        return Arrays.copyOf(hashes, unique);
+    }
+
+    static double jaccard(int[] left, int[] right) {
+        if (left.length == 0 && right.length == 0) {
+            return 1.0;
+        }
+        int i = 0;
+        int j = 0;
+        int common = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] == right[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (left[i] < right[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) common / (left.length + right.length - common);
+    }
+
+    private final class Cluster {
+
+        private final List<int[]> shingles = new ArrayList<>();
+        private final Set<IssueSource> sources = new LinkedHashSet<>();
+        private Issue strongest;
+
+        private Cluster(Issue issue, int[] shingles) {
+            this.strongest = issue;
+            this.shingles.add(shingles);
+            this.sources.addAll(issue.sources());
+        }
+
+        private boolean accepts(Issue issue, int[] candidate) {
+            if (issue.type() != strongest.type() || !isNear(issue.line(), strongest.line())) {
+                return false;
+            }
+            for (int[] member : shingles) {
+                if (jaccard(member, candidate) >= similarityThreshold) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void add(Issue issue, int[] candidate) {
+            shingles.add(candidate);
+            sources.addAll(issue.sources());
+            if (!strongest.severity().isAtLeast(issue.severity())) {
+                strongest = issue;
+            }
+        }
+
+        private boolean isNear(Integer left, Integer right) {
+            if (left == null || right == null) {
+                return Objects.equals(left, right);
+            }
+            return Math.abs(left - right) <= lineWindow;
+        }
+
+        private Issue toIssue() {
+            if (sources.size() == strongest.sources().size()) {
+                return strongest;
+            }
+            return new Issue(
+                    strongest.type(),
+                    strongest.severity(),
+                    strongest.message(),
+                    strongest.line(),
+                    strongest.source(),
+                    List.copyOf(sources)
+            );
+        }
+    }
+}
@@ -1,19 +1,17 @@
 package com.validator.domain.policy;
 
 import com.validator.domain.model.DecisionResult;
-import com.validator.domain.model.DecisionStatus;
 import com.validator.domain.model.Issue;
 import com.validator.domain.model.IssueSeverity;
 import com.validator.domain.model.IssueType;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Component
 public class PolicyEngine {
 
-    private final List<PolicyRule> rules = List.of(
+    static final List<PolicyRule> DEFAULT_RULES = List.of(
             new PolicyRule(
                     "SECURITY_CRITICAL_BLOCK",
                     "Block critical security issues",
@@ -72,56 +70,25 @@ public class PolicyEngine {
             )
     );
 
-    public DecisionResult decide(List<Issue> issues) {
-        List<RuleMatch> matches = new ArrayList<>();
-
-        DecisionStatus status = DecisionStatus.ALLOWED;
-        String reason = "No blocking issues found";
-
-        for (PolicyRule rule : rules) {
-            int count = countMatching(issues, rule);
-            if (count >= rule.minCount()) {
-                matches.add(new RuleMatch(rule, count));
-            }
-        }
+    private volatile CompiledPolicy policy;
 
-        List<String> triggered = matches.stream()
-                .map(match -> match.rule().id())
-                .toList();
+    public PolicyEngine() {
+        this(DEFAULT_RULES);
+    }
 
-        RuleMatch blockMatch = matches.stream()
-                .filter(match -> match.rule().action() == PolicyAction.BLOCK)
-                .findFirst()
-                .orElse(null);
-        if (blockMatch != null) {
-            status = DecisionStatus.BLOCKED;
-            reason = blockMatch.rule().name() + " (count=" + blockMatch.count() + ")";
-        } else {
-            RuleMatch warnMatch = matches.stream()
-                    .filter(match -> match.rule().action() == PolicyAction.WARN)
-                    .findFirst()
-                    .orElse(null);
-            if (warnMatch != null) {
-                status = DecisionStatus.WARN_ONLY;
-                reason = warnMatch.rule().name() + " (count=" + warnMatch.count() + ")";
-            }
-        }
+    public PolicyEngine(List<PolicyRule> rules) {
+        this.policy = CompiledPolicy.compile(rules);
+    }
 
-        return new DecisionResult(status, reason, triggered);
+    public DecisionResult decide(List<Issue> issues) {
+        return policy.decide(issues);
     }
 
-    private int countMatching(List<Issue> issues, PolicyRule rule) {
-        if (rule.type() == IssueType.ANY) {
-            return (int) issues.stream()
-                    .filter(issue -> issue.severity().isAtLeast(rule.minSeverity()))
-                    .count();
-        }
-        return (int) issues.stream()
-                .filter(issue -> issue.type() == rule.type())
-                .filter(issue -> issue.severity().isAtLeast(rule.minSeverity()))
-                .count();
+    public void replaceRules(List<PolicyRule> rules) {
+        this.policy = CompiledPolicy.compile(rules);
     }
 
-    private record RuleMatch(PolicyRule rule, int count) {
+    public List<PolicyRule> rules() {
+        return policy.rules();
     }
 }
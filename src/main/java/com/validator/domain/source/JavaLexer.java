@@ -0,0 +1,131 @@
+package com.validator.domain.source;
+
+/**
+ * Java 소스를 한 번 순회하여 식별자, 숫자, 문자열(문자/텍스트 블록 포함), 주석, 기호 토큰으로 나눈다.
+ * 닫히지 않은 문자열은 줄 끝에서, 닫히지 않은 블록 주석은 소스 끝에서 끝난 것으로 본다.
+ * 같은 규칙을 쓰는 C 계열 언어를 위해 Go의 백틱 원시 문자열과 Rust의 수명 표기('a)를 선택적으로 인식한다.
+ */
+public final class JavaLexer {
+
+    private JavaLexer() {
+    }
+
+    public static SourceTokens tokenize(String source) {
+        return tokenize(source, false, false);
+    }
+
+    static SourceTokens tokenize(String source, boolean backtickStrings, boolean lifetimes) {
+        SourceTokens tokens = new SourceTokens(source, source.length() / 4 + 16);
+        int length = source.length();
+        int line = 1;
+        int i = 0;
+        while (i < length) {
+            char c = source.charAt(i);
+            int start = i;
+            int startLine = line;
+            if (c == '\n') {
+                line++;
+                i++;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+            TokenKind kind;
+            if (c == '/' && i + 1 < length && source.charAt(i + 1) == '/') {
+                kind = TokenKind.COMMENT;
+                i = source.indexOf('\n', i);
+                i = i == -1 ? length : i;
+            } else if (c == '/' && i + 1 < length && source.charAt(i + 1) == '*') {
+                kind = TokenKind.COMMENT;
+                int close = source.indexOf("*/", i + 2);
+                i = close == -1 ? length : close + 2;
+                line += countLines(source, start, i);
+            } else if (c == '"' && source.startsWith("\"\"\"", i)) {
+                kind = TokenKind.STRING;
+                i = textBlockEnd(source, i + 3);
+                line += countLines(source, start, i);
+            } else if (backtickStrings && c == '`') {
+                kind = TokenKind.STRING;
+                int close = source.indexOf('`', i + 1);
+                i = close == -1 ? length : close + 1;
+                line += countLines(source, start, i);
+            } else if (lifetimes && c == '\'' && isLifetime(source, i + 1)) {
+                kind = TokenKind.SYMBOL;
+                i++;
+            } else if (c == '"' || c == '\'') {
+                kind = TokenKind.STRING;
+                i = literalEnd(source, i + 1, c);
+            } else if (Character.isJavaIdentifierStart(c)) {
+                kind = TokenKind.IDENTIFIER;
+                i++;
+                while (i < length && Character.isJavaIdentifierPart(source.charAt(i))) {
+                    i++;
+                }
+            } else if (c >= '0' && c <= '9') {
+                kind = TokenKind.NUMBER;
+                i++;
+                while (i < length && isNumberPart(source, i)) {
+                    i++;
+                }
+            } else {
+                kind = TokenKind.SYMBOL;
+                i++;
+            }
+            tokens.add(kind, start, i, startLine);
+        }
+        return tokens;
+    }
+
+    private static int literalEnd(String source, int from, char quote) {
+        for (int i = from; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == quote) {
+                return i + 1;
+            } else if (c == '\n') {
+                return i;
+            }
+        }
+        return source.length();
+    }
+
+    private static int textBlockEnd(String source, int from) {
+        for (int i = from; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '"' && source.startsWith("\"\"\"", i)) {
+                return i + 3;
+            }
+        }
+        return source.length();
+    }
+
+    private static boolean isLifetime(String source, int from) {
+        if (from >= source.length() || !Character.isJavaIdentifierStart(source.charAt(from))) {
+            return false;
+        }
+        int end = from + 1;
+        while (end < source.length() && Character.isJavaIdentifierPart(source.charAt(end))) {
+            end++;
+        }
+        return end >= source.length() || source.charAt(end) != '\'';
+    }
+
+    private static boolean isNumberPart(String source, int i) {
+        char c = source.charAt(i);
+        return Character.isLetterOrDigit(c) || c == '_'
+                || c == '.' && i + 1 < source.length() && Character.isDigit(source.charAt(i + 1));
+    }
+
+    private static int countLines(String source, int from, int to) {
+        int lines = 0;
+        for (int i = from; i < to; i++) {
+            if (source.charAt(i) == '\n') lines++;
+        }
+        return lines;
+    }
+}
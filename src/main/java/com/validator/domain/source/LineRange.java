@@ -0,0 +1,15 @@
+package com.validator.domain.source;
+
+public record LineRange(
+        int startLine,
+        int endLine
+) {
+
+    public boolean contains(int line) {
+        return line >= startLine && line <= endLine;
+    }
+
+    public int length() {
+        return endLine - startLine + 1;
+    }
+}
@@ -0,0 +1,12 @@
+package com.validator.domain.source;
+
+public record SourceChunk(
+        String source,
+        int startLine,
+        int endLine
+) {
+
+    public int toAbsoluteLine(int chunkLine) {
+        return startLine + chunkLine - 1;
+    }
+}
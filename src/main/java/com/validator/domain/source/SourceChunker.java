@@ -0,0 +1,94 @@
+package com.validator.domain.source;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 큰 소스를 클래스/메서드 경계에 맞춰 일정 크기 이하의 조각으로 나눈다.
+ * 중괄호 깊이가 멤버 수준(1 이하)으로 돌아오는 줄 끝을 경계 후보로 삼고,
+ * 인접 조각은 지정한 줄 수만큼 겹쳐 경계에 걸친 이슈를 놓치지 않게 한다.
+ * 줄이 길어 조각에 들어가는 줄 수가 적을 때는 겹침을 조각 줄 수의 1/4로 줄여 조각마다 충분히 전진하게 한다.
+ */
+public final class SourceChunker {
+
+    private static final int MAX_OVERLAP_SHARE = 4;
+
+    private final int chunkSize;
+    private final int overlapLines;
+
+    public SourceChunker(int chunkSize, int overlapLines) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize는 1 이상이어야 합니다.");
+        }
+        this.chunkSize = chunkSize;
+        this.overlapLines = Math.max(0, overlapLines);
+    }
+
+    public List<SourceChunk> split(String source) {
+        List<SourceChunk> chunks = new ArrayList<>();
+        if (source.length() <= chunkSize) {
+            chunks.add(new SourceChunk(source, 1, lineCount(source)));
+            return chunks;
+        }
+
+        int lines = lineCount(source);
+        int[] lineStarts = new int[lines + 1];
+        boolean[] boundaries = new boolean[lines + 1];
+        int line = 1;
+        int depth = 0;
+        lineStarts[1] = 0;
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == '{') {
+                depth++;
+            } else if (c == '}') {
+                depth = Math.max(0, depth - 1);
+            } else if (c == '\n') {
+                boundaries[line] = depth <= 1;
+                line++;
+                lineStarts[line] = i + 1;
+            }
+        }
+        boundaries[lines] = true;
+
+        int startLine = 1;
+        while (startLine <= lines) {
+            int startOffset = lineStarts[startLine];
+            int endLine = startLine;
+            int lastBoundary = -1;
+            while (endLine < lines && endOffset(source, lineStarts, lines, endLine + 1) - startOffset <= chunkSize) {
+                endLine++;
+                if (boundaries[endLine] && endLine - startLine >= overlapLines) {
+                    lastBoundary = endLine;
+                }
+            }
+            if (endLine < lines && lastBoundary > startLine
+                    && endOffset(source, lineStarts, lines, lastBoundary) - startOffset >= chunkSize / 2) {
+                endLine = lastBoundary;
+            }
+            chunks.add(new SourceChunk(
+                    source.substring(startOffset, endOffset(source, lineStarts, lines, endLine)),
+                    startLine,
+                    endLine
+            ));
+            if (endLine == lines) {
+                break;
+            }
+            int overlap = Math.min(overlapLines, (endLine - startLine + 1) / MAX_OVERLAP_SHARE);
+            startLine = Math.max(startLine + 1, endLine - overlap + 1);
+        }
+        return chunks;
+    }
+
+    private int endOffset(String source, int[] lineStarts, int lines, int line) {
+        return line == lines ? source.length() : lineStarts[line + 1];
+    }
+
+    private int lineCount(String source) {
+        int count = 1;
+        for (int i = 0; i < source.length(); i++) {
+            if (source.charAt(i) == '\n') count++;
+        }
+        return count;
+    }
+}
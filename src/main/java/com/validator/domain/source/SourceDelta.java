@@ -0,0 +1,82 @@
+package com.validator.domain.source;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기준 소스에서 새 소스로의 변경 결과.
+ * 기준 소스의 각 줄이 새 소스의 몇 번째 줄로 옮겨졌는지(삭제되었으면 0)와 새 소스 기준 변경 구간을 담는다.
+ */
+public record SourceDelta(
+        String source,
+        int[] baseToNewLines,
+        List<LineRange> changes
+) {
+
+    public static SourceDelta between(String base, String updated) {
+        String[] baseLines = base.split("\n", -1);
+        String[] newLines = updated.split("\n", -1);
+        int prefix = 0;
+        int maxPrefix = Math.min(baseLines.length, newLines.length);
+        while (prefix < maxPrefix && baseLines[prefix].equals(newLines[prefix])) {
+            prefix++;
+        }
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix
+                && baseLines[baseLines.length - 1 - suffix].equals(newLines[newLines.length - 1 - suffix])) {
+            suffix++;
+        }
+
+        int[] baseToNew = new int[baseLines.length];
+        for (int i = 0; i < prefix; i++) {
+            baseToNew[i] = i + 1;
+        }
+        int shift = newLines.length - baseLines.length;
+        for (int i = baseLines.length - suffix; i < baseLines.length; i++) {
+            baseToNew[i] = i + shift + 1;
+        }
+        List<LineRange> changes = new ArrayList<>(1);
+        if (prefix + suffix < Math.max(baseLines.length, newLines.length)) {
+            int start = Math.min(prefix + 1, newLines.length);
+            int end = Math.max(start, newLines.length - suffix);
+            changes.add(new LineRange(start, end));
+        }
+        return new SourceDelta(updated, baseToNew, changes);
+    }
+
+    public boolean isUnchanged() {
+        return changes.isEmpty();
+    }
+
+    public Integer toNewLine(int baseLine) {
+        if (baseLine < 1 || baseLine > baseToNewLines.length || baseToNewLines[baseLine - 1] == 0) {
+            return null;
+        }
+        return baseToNewLines[baseLine - 1];
+    }
+
+    public List<SourceChunk> regions(int contextLines) {
+        String[] lines = source.split("\n", -1);
+        List<LineRange> merged = new ArrayList<>();
+        for (LineRange change : changes) {
+            int start = Math.max(1, change.startLine() - contextLines);
+            int end = Math.min(lines.length, change.endLine() + contextLines);
+            LineRange last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && start <= last.endLine() + 1) {
+                merged.set(merged.size() - 1, new LineRange(last.startLine(), Math.max(last.endLine(), end)));
+            } else {
+                merged.add(new LineRange(start, end));
+            }
+        }
+        List<SourceChunk> regions = new ArrayList<>(merged.size());
+        for (LineRange range : merged) {
+            regions.add(new SourceChunk(
+                    String.join("\n", List.of(lines).subList(range.startLine() - 1, range.endLine())),
+                    range.startLine(),
+                    range.endLine()
+            ));
+        }
+        return regions;
+    }
+}
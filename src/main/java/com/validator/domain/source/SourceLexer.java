@@ -0,0 +1,102 @@
+package com.validator.domain.source;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 제출 언어에 맞는 렉서를 고른다. C 계열 언어는 JavaLexer를(Go는 백틱 문자열, Rust는 수명 표기 포함),
+ * # 주석 언어는 # 주석과 따옴표 문자열을 인식하는 스크립트 규칙을 쓴다.
+ * 주석/문자열 문법을 모르는 언어는 모든 토큰을 코드로 취급해 영역 구분 없이 패턴을 매칭한다.
+ */
+public final class SourceLexer {
+
+    private static final Set<String> C_STYLE_LANGUAGES = Set.of(
+            "JAVA", "KOTLIN", "SCALA", "GROOVY", "JAVASCRIPT", "TYPESCRIPT",
+            "C", "CPP", "CSHARP", "GO", "SWIFT", "RUST");
+    private static final Set<String> HASH_COMMENT_LANGUAGES = Set.of("PYTHON", "RUBY", "SHELL", "BASH", "YAML", "R");
+
+    private SourceLexer() {
+    }
+
+    public static SourceTokens tokenize(String source, String language) {
+        String normalized = language == null ? "" : language.trim().toUpperCase(Locale.ROOT);
+        if (normalized.isEmpty() || C_STYLE_LANGUAGES.contains(normalized)) {
+            return JavaLexer.tokenize(source, "GO".equals(normalized), "RUST".equals(normalized));
+        }
+        return tokenizeScript(source, HASH_COMMENT_LANGUAGES.contains(normalized));
+    }
+
+    private static SourceTokens tokenizeScript(String source, boolean lexical) {
+        SourceTokens tokens = new SourceTokens(source, source.length() / 4 + 16);
+        int length = source.length();
+        int line = 1;
+        int i = 0;
+        while (i < length) {
+            char c = source.charAt(i);
+            int start = i;
+            int startLine = line;
+            if (c == '\n') {
+                line++;
+                i++;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+            TokenKind kind;
+            if (lexical && c == '#') {
+                kind = TokenKind.COMMENT;
+                i = source.indexOf('\n', i);
+                i = i == -1 ? length : i;
+            } else if (lexical && (source.startsWith("\"\"\"", i) || source.startsWith("'''", i))) {
+                kind = TokenKind.STRING;
+                int close = source.indexOf(source.substring(i, i + 3), i + 3);
+                i = close == -1 ? length : close + 3;
+                line += countLines(source, start, i);
+            } else if (lexical && (c == '"' || c == '\'')) {
+                kind = TokenKind.STRING;
+                i = literalEnd(source, i + 1, c);
+            } else if (Character.isJavaIdentifierStart(c)) {
+                kind = TokenKind.IDENTIFIER;
+                i++;
+                while (i < length && Character.isJavaIdentifierPart(source.charAt(i))) {
+                    i++;
+                }
+            } else if (c >= '0' && c <= '9') {
+                kind = TokenKind.NUMBER;
+                i++;
+                while (i < length && Character.isLetterOrDigit(source.charAt(i))) {
+                    i++;
+                }
+            } else {
+                kind = TokenKind.SYMBOL;
+                i++;
+            }
+            tokens.add(kind, start, i, startLine);
+        }
+        return tokens;
+    }
+
+    private static int literalEnd(String source, int from, char quote) {
+        for (int i = from; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == quote) {
+                return i + 1;
+            } else if (c == '\n') {
+                return i;
+            }
+        }
+        return source.length();
+    }
+
+    private static int countLines(String source, int from, int to) {
+        int lines = 0;
+        for (int i = from; i < to; i++) {
+            if (source.charAt(i) == '\n') lines++;
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,7 @@
+package com.validator.domain.source;
+
+public enum SourceRegion {
+    CODE,
+    STRING,
+    COMMENT
+}
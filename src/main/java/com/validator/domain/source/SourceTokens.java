@@ -0,0 +1,90 @@
+package com.validator.domain.source;
+
+import java.util.Arrays;
+
+/**
+ * 렉서가 만든 토큰 목록. 토큰마다 객체를 만들지 않고 종류/시작/끝/줄 번호를 병렬 배열에 담는다.
+ */
+public final class SourceTokens {
+
+    private static final TokenKind[] KINDS = TokenKind.values();
+
+    private final String source;
+    private byte[] kinds;
+    private int[] starts;
+    private int[] ends;
+    private int[] lines;
+    private int size;
+
+    SourceTokens(String source, int capacity) {
+        this.source = source;
+        this.kinds = new byte[capacity];
+        this.starts = new int[capacity];
+        this.ends = new int[capacity];
+        this.lines = new int[capacity];
+    }
+
+    void add(TokenKind kind, int start, int end, int line) {
+        if (size == starts.length) {
+            int capacity = Math.max(16, size * 2);
+            kinds = Arrays.copyOf(kinds, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            lines = Arrays.copyOf(lines, capacity);
+        }
+        kinds[size] = (byte) kind.ordinal();
+        starts[size] = start;
+        ends[size] = end;
+        lines[size] = line;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public TokenKind kind(int index) {
+        return KINDS[kinds[index]];
+    }
+
+    public int start(int index) {
+        return starts[index];
+    }
+
+    public int end(int index) {
+        return ends[index];
+    }
+
+    public int line(int index) {
+        return lines[index];
+    }
+
+    public String text(int index) {
+        return source.substring(starts[index], ends[index]);
+    }
+
+    public char symbol(int index) {
+        return source.charAt(starts[index]);
+    }
+
+    public SourceRegion regionAt(int offset) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid] <= offset) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (high < 0 || offset >= ends[high]) {
+            return SourceRegion.CODE;
+        }
+        return switch (KINDS[kinds[high]]) {
+            case STRING -> SourceRegion.STRING;
+            case COMMENT -> SourceRegion.COMMENT;
+            default -> SourceRegion.CODE;
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package com.validator.domain.source;
+
+public enum TokenKind {
+    IDENTIFIER,
+    NUMBER,
+    STRING,
+    COMMENT,
+    SYMBOL
+}
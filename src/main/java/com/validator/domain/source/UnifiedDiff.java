@@ -0,0 +1,92 @@
+package com.validator.domain.source;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * unified diff를 기준 소스에 적용한다.
+ * 문맥 줄과 삭제 줄이 기준 소스와 일치하는지 확인하며, 추가된 줄과 삭제 위치를 새 소스 기준 변경 구간으로 기록한다.
+ */
+public final class UnifiedDiff {
+
+    private static final Pattern HUNK_HEADER = Pattern.compile("^@@ -(\\d+)(?:,(\\d+))? \\+(\\d+)(?:,(\\d+))? @@.*");
+
+    private UnifiedDiff() {
+    }
+
+    public static SourceDelta apply(String base, String diff) {
+        String[] baseLines = base.split("\n", -1);
+        int[] baseToNew = new int[baseLines.length];
+        List<String> newLines = new ArrayList<>(baseLines.length);
+        List<LineRange> changes = new ArrayList<>();
+        int cursor = 0;
+        boolean inHunk = false;
+
+        for (String line : diff.lines().toList()) {
+            Matcher header = HUNK_HEADER.matcher(line);
+            if (header.matches()) {
+                int oldStart = Integer.parseInt(header.group(1));
+                int oldCount = header.group(2) == null ? 1 : Integer.parseInt(header.group(2));
+                int hunkStart = oldCount == 0 ? oldStart : oldStart - 1;
+                if (hunkStart < cursor || hunkStart > baseLines.length) {
+                    throw new IllegalArgumentException("diff 구간이 기준 소스 범위를 벗어났습니다: " + line);
+                }
+                while (cursor < hunkStart) {
+                    newLines.add(baseLines[cursor]);
+                    baseToNew[cursor++] = newLines.size();
+                }
+                inHunk = true;
+                continue;
+            }
+            if (!inHunk || line.startsWith("\\")) {
+                continue;
+            }
+            if (line.startsWith("+")) {
+                newLines.add(line.substring(1));
+                markChanged(changes, newLines.size());
+            } else if (line.startsWith("-")) {
+                expect(baseLines, cursor, line.substring(1));
+                cursor++;
+                markChanged(changes, newLines.size() + 1);
+            } else if (line.startsWith(" ") || line.isEmpty()) {
+                expect(baseLines, cursor, line.isEmpty() ? "" : line.substring(1));
+                newLines.add(baseLines[cursor]);
+                baseToNew[cursor++] = newLines.size();
+            } else {
+                inHunk = false;
+            }
+        }
+        while (cursor < baseLines.length) {
+            newLines.add(baseLines[cursor]);
+            baseToNew[cursor++] = newLines.size();
+        }
+
+        int lastLine = Math.max(1, newLines.size());
+        List<LineRange> clamped = new ArrayList<>(changes.size());
+        for (LineRange change : changes) {
+            clamped.add(new LineRange(Math.min(change.startLine(), lastLine), Math.min(change.endLine(), lastLine)));
+        }
+        return new SourceDelta(String.join("\n", newLines), baseToNew, clamped);
+    }
+
+    private static void markChanged(List<LineRange> changes, int line) {
+        LineRange last = changes.isEmpty() ? null : changes.get(changes.size() - 1);
+        if (last != null && line <= last.endLine() + 1) {
+            changes.set(changes.size() - 1, new LineRange(last.startLine(), Math.max(last.endLine(), line)));
+        } else {
+            changes.add(new LineRange(line, line));
+        }
+    }
+
+    private static void expect(String[] baseLines, int cursor, String expected) {
+        if (cursor >= baseLines.length || !stripCarriageReturn(baseLines[cursor]).equals(expected)) {
+            throw new IllegalArgumentException("diff가 기준 소스와 일치하지 않습니다. line=" + (cursor + 1));
+        }
+    }
+
+    private static String stripCarriageReturn(String line) {
+        return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+    }
+}
@@ -0,0 +1,11 @@
+package com.validator.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record CodeBatchValidationRequest(
+        @NotEmpty List<@Valid CodeValidationRequest> files
+) {
+}
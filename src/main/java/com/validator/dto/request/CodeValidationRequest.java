@@ -6,6 +6,11 @@ public record CodeValidationRequest(
         @NotBlank String sourceCode,
         String filePath,
         String context,
-        String language
+        String language,
+        String aiProvider
 ) {
+
+    public CodeValidationRequest(String sourceCode, String filePath, String context, String language) {
+        this(sourceCode, filePath, context, language, null);
+    }
 }
@@ -0,0 +1,13 @@
+package com.validator.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record IncrementalReviewRequest(
+        @NotBlank String baseContentHash,
+        String diff,
+        String sourceCode,
+        String filePath,
+        String context,
+        String language
+) {
+}
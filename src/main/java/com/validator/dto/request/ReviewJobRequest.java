@@ -0,0 +1,14 @@
+package com.validator.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+public record ReviewJobRequest(
+        @NotNull @Valid CodeValidationRequest review,
+        @Min(0) @Max(9) Integer priority,
+        @Pattern(regexp = "https?://.+") String callbackUrl
+) {
+}
@@ -0,0 +1,11 @@
+package com.validator.dto.response;
+
+import com.validator.domain.model.DecisionResult;
+
+import java.util.List;
+
+public record CodeBatchValidationResponse(
+        DecisionResult decision,
+        List<FileValidationResult> files
+) {
+}
@@ -1,5 +1,6 @@
 package com.validator.dto.response;
 
+import com.validator.domain.model.AiAnalysisStatus;
 import com.validator.domain.model.AnalysisSummary;
 import com.validator.domain.model.DecisionResult;
 
@@ -8,6 +9,8 @@ import java.util.List;
 public record CodeValidationResponse(
         DecisionResult decision,
         AnalysisSummary analysis,
-        List<String> suggestions
+        List<String> suggestions,
+        AiAnalysisStatus aiStatus,
+        String contentHash
 ) {
 }
@@ -0,0 +1,14 @@
+package com.validator.dto.response;
+
+import com.validator.exception.ErrorResponse;
+
+public record FileValidationResult(
+        String filePath,
+        CodeValidationResponse result,
+        ErrorResponse error
+) {
+
+    public FileValidationResult(String filePath, CodeValidationResponse result) {
+        this(filePath, result, null);
+    }
+}
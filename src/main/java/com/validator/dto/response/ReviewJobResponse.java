@@ -0,0 +1,19 @@
+package com.validator.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.validator.domain.model.ReviewJobStatus;
+import com.validator.exception.ErrorResponse;
+
+import java.time.Instant;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ReviewJobResponse(
+        String jobId,
+        ReviewJobStatus status,
+        int priority,
+        Instant createdAt,
+        Instant completedAt,
+        CodeValidationResponse result,
+        ErrorResponse error
+) {
+}
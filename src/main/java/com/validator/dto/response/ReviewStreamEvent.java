@@ -0,0 +1,37 @@
+package com.validator.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.validator.domain.model.DecisionResult;
+import com.validator.domain.model.Issue;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ReviewStreamEvent(
+        String type,
+        List<Issue> issues,
+        DecisionResult decision,
+        CodeValidationResponse result
+) {
+
+    public static final String STATIC_ISSUES = "static-issues";
+    public static final String PROVISIONAL_DECISION = "provisional-decision";
+    public static final String AI_ISSUE = "ai-issue";
+    public static final String RESULT = "result";
+
+    public static ReviewStreamEvent staticIssues(List<Issue> issues) {
+        return new ReviewStreamEvent(STATIC_ISSUES, issues, null, null);
+    }
+
+    public static ReviewStreamEvent provisionalDecision(DecisionResult decision) {
+        return new ReviewStreamEvent(PROVISIONAL_DECISION, null, decision, null);
+    }
+
+    public static ReviewStreamEvent aiIssue(Issue issue) {
+        return new ReviewStreamEvent(AI_ISSUE, List.of(issue), null, null);
+    }
+
+    public static ReviewStreamEvent result(CodeValidationResponse result) {
+        return new ReviewStreamEvent(RESULT, null, null, result);
+    }
+}
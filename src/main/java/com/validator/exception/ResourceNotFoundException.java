@@ -0,0 +1,15 @@
+package com.validator.exception;
+
+public class ResourceNotFoundException extends RuntimeException {
+
+    private final String code;
+
+    public ResourceNotFoundException(String code, String message) {
+        super(message);
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+}
@@ -0,0 +1,6 @@
+package com.validator.infrastructure.admission;
+
+public enum AdmissionPriority {
+    INTERACTIVE,
+    BATCH
+}
@@ -0,0 +1,195 @@
+package com.validator.infrastructure.admission;
+
+import com.validator.exception.OverloadException;
+import com.validator.infrastructure.config.ReviewProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 리뷰 요청의 동시 실행 수와 처리 중인 요청 본문 바이트 합계를 제한하는 입장 제어기.
+ * 한도를 넘는 요청은 우선순위별 대기열에서 최대 대기 시간까지만 기다리며, 대화형 요청이 배치 요청보다 먼저 입장한다.
+ * 대기열이 가득 차거나 기한을 넘기면 즉시 거절해 과부하를 GC 압박 대신 429 응답으로 흘려보낸다.
+ * 대기 중인 요청은 서블릿 스레드를 점유하므로 대기열 크기는 server.tomcat.threads.max의 1/4을 넘지 않도록 제한한다.
+ */
+@Component
+public class ReviewAdmissionLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewAdmissionLimiter.class);
+    private static final int QUEUED_THREAD_SHARE = 4;
+
+    private final ReviewProperties.Admission settings;
+    private final MeterRegistry meterRegistry;
+    private final Deque<Waiter> interactiveQueue = new ArrayDeque<>();
+    private final Deque<Waiter> batchQueue = new ArrayDeque<>();
+    private final Timer waitTimer;
+    private final int maxQueued;
+    private int active;
+    private int activeBatch;
+    private long inFlightBytes;
+
+    public ReviewAdmissionLimiter(
+            ReviewProperties properties,
+            ServerProperties serverProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.settings = properties.getAdmission();
+        this.meterRegistry = meterRegistry;
+        int queueCeiling = serverProperties.getTomcat().getThreads().getMax() / QUEUED_THREAD_SHARE;
+        this.maxQueued = Math.min(settings.getMaxQueued(), queueCeiling);
+        if (maxQueued < settings.getMaxQueued()) {
+            logger.warn("리뷰 대기열 크기를 서블릿 스레드 수에 맞춰 줄입니다. configured={}, applied={}",
+                    settings.getMaxQueued(), maxQueued);
+        }
+        this.waitTimer = Timer.builder("review.admission.wait").register(meterRegistry);
+        Gauge.builder("review.admission.active", this, ReviewAdmissionLimiter::active)
+                .register(meterRegistry);
+        Gauge.builder("review.admission.in.flight.bytes", this, ReviewAdmissionLimiter::inFlightBytes)
+                .register(meterRegistry);
+        Gauge.builder("review.admission.queued", this, ReviewAdmissionLimiter::queued)
+                .register(meterRegistry);
+    }
+
+    public Permit acquire(long contentLength, AdmissionPriority priority) {
+        if (!settings.isEnabled()) {
+            return new Permit(0, priority, false);
+        }
+        long bytes = Math.min(
+                contentLength < 0 ? settings.getUnknownContentLengthBytes() : contentLength,
+                settings.getMaxInFlightBytes());
+        long start = System.nanoTime();
+        synchronized (this) {
+            Waiter waiter = new Waiter(bytes, priority);
+            boolean noneAhead = queueOf(priority).isEmpty()
+                    && (priority == AdmissionPriority.INTERACTIVE || interactiveQueue.isEmpty());
+            if (noneAhead && fits(waiter)) {
+                return admit(waiter, start);
+            }
+            if (interactiveQueue.size() + batchQueue.size() >= maxQueued) {
+                throw reject("REVIEW_OVERLOADED", "queue_full", priority,
+                        "리뷰 요청이 몰려 대기열이 가득 찼습니다. 잠시 후 다시 시도하세요.");
+            }
+            queueOf(priority).addLast(waiter);
+            long deadline = start + TimeUnit.MILLISECONDS.toNanos(settings.getMaxWaitMillis());
+            try {
+                while (!canAdmit(waiter)) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        queueOf(priority).remove(waiter);
+                        notifyAll();
+                        throw reject("REVIEW_ADMISSION_TIMEOUT", "timeout", priority,
+                                "리뷰 요청 대기 시간이 초과되었습니다. 잠시 후 다시 시도하세요.");
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                queueOf(priority).remove(waiter);
+                notifyAll();
+                throw reject("REVIEW_ADMISSION_TIMEOUT", "interrupted", priority, "리뷰 요청 대기가 중단되었습니다.");
+            }
+            queueOf(priority).removeFirst();
+            Permit permit = admit(waiter, start);
+            notifyAll();
+            return permit;
+        }
+    }
+
+    synchronized int active() {
+        return active;
+    }
+
+    synchronized long inFlightBytes() {
+        return inFlightBytes;
+    }
+
+    synchronized int queued() {
+        return interactiveQueue.size() + batchQueue.size();
+    }
+
+    private Permit admit(Waiter waiter, long start) {
+        active++;
+        inFlightBytes += waiter.bytes;
+        if (waiter.priority == AdmissionPriority.BATCH) {
+            activeBatch++;
+        }
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return new Permit(waiter.bytes, waiter.priority, true);
+    }
+
+    private boolean canAdmit(Waiter waiter) {
+        if (waiter.priority == AdmissionPriority.BATCH && !interactiveQueue.isEmpty()) {
+            return false;
+        }
+        return queueOf(waiter.priority).peekFirst() == waiter && fits(waiter);
+    }
+
+    private boolean fits(Waiter waiter) {
+        if (active >= settings.getMaxConcurrent()) {
+            return false;
+        }
+        if (waiter.priority == AdmissionPriority.BATCH && activeBatch >= settings.getBatchMaxConcurrent()) {
+            return false;
+        }
+        return active == 0 || inFlightBytes + waiter.bytes <= settings.getMaxInFlightBytes();
+    }
+
+    private Deque<Waiter> queueOf(AdmissionPriority priority) {
+        return priority == AdmissionPriority.BATCH ? batchQueue : interactiveQueue;
+    }
+
+    private synchronized void release(Permit permit) {
+        active--;
+        inFlightBytes -= permit.bytes;
+        if (permit.priority == AdmissionPriority.BATCH) {
+            activeBatch--;
+        }
+        notifyAll();
+    }
+
+    private OverloadException reject(String code, String reason, AdmissionPriority priority, String message) {
+        meterRegistry.counter("review.admission.rejected", "reason", reason, "priority", priority.name()).increment();
+        logger.warn("리뷰 요청을 거절합니다. reason={}, priority={}, active={}, inFlightBytes={}, queued={}",
+                reason, priority, active, inFlightBytes, interactiveQueue.size() + batchQueue.size());
+        return new OverloadException(code, message, settings.getRetryAfterSeconds());
+    }
+
+    private static final class Waiter {
+
+        private final long bytes;
+        private final AdmissionPriority priority;
+
+        private Waiter(long bytes, AdmissionPriority priority) {
+            this.bytes = bytes;
+            this.priority = priority;
+        }
+    }
+
+    public final class Permit {
+
+        private final long bytes;
+        private final AdmissionPriority priority;
+        private final AtomicBoolean held;
+
+        private Permit(long bytes, AdmissionPriority priority, boolean held) {
+            this.bytes = bytes;
+            this.priority = priority;
+            this.held = new AtomicBoolean(held);
+        }
+
+        public void release() {
+            if (held.compareAndSet(true, false)) {
+                ReviewAdmissionLimiter.this.release(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.validator.infrastructure.ai;
+
+import com.validator.exception.AiServiceException;
+import com.validator.infrastructure.config.OpenAiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * OpenAI 호출의 동시 실행 수를 AIMD 방식으로 조절하는 공유 리미터.
+ * 성공하면 한도를 1/limit씩 늘리고, 429/5xx를 받으면 절반으로 줄이며 Retry-After 동안 모든 호출을 대기시킨다.
+ * 한도를 넘는 호출은 대기열에서 기한까지만 기다린다.
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+    private static final double BACKOFF_RATIO = 0.5;
+    private static final long MAX_PAUSE_MILLIS = 60_000;
+
+    private final OpenAiProperties.Limiter settings;
+    private final Deque<Waiter> queue = new ArrayDeque<>();
+    private final Counter queueFull;
+    private final Counter queueTimeouts;
+    private double limit;
+    private int inFlight;
+    private long pausedUntil;
+    private long lastDecreaseAt;
+
+    AdaptiveConcurrencyLimiter(OpenAiProperties.Limiter settings, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.limit = Math.max(settings.getMinLimit(), Math.min(settings.getInitialLimit(), settings.getMaxLimit()));
+        this.pausedUntil = System.nanoTime();
+        this.lastDecreaseAt = pausedUntil;
+        this.queueFull = Counter.builder("ai.openai.limiter.rejected")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.queueTimeouts = Counter.builder("ai.openai.limiter.rejected")
+                .tag("reason", "queue_timeout")
+                .register(meterRegistry);
+        Gauge.builder("ai.openai.limiter.limit", this, AdaptiveConcurrencyLimiter::limit)
+                .register(meterRegistry);
+        Gauge.builder("ai.openai.limiter.in.flight", this, AdaptiveConcurrencyLimiter::inFlight)
+                .register(meterRegistry);
+        Gauge.builder("ai.openai.limiter.queued", this, AdaptiveConcurrencyLimiter::queued)
+                .register(meterRegistry);
+    }
+
+    <T> Mono<T> execute(Supplier<Mono<T>> call) {
+        return acquire().flatMap(permit -> Mono.defer(call)
+                .doOnSuccess(value -> permit.release(Outcome.SUCCESS, 0))
+                .doOnError(ex -> release(permit, ex))
+                .doOnCancel(() -> permit.release(Outcome.IGNORED, 0)));
+    }
+
+    <T> Flux<T> executeMany(Supplier<Flux<T>> call) {
+        return acquire().flatMapMany(permit -> Flux.defer(call)
+                .doOnComplete(() -> permit.release(Outcome.SUCCESS, 0))
+                .doOnError(ex -> release(permit, ex))
+                .doOnCancel(() -> permit.release(Outcome.IGNORED, 0)));
+    }
+
+    synchronized double limit() {
+        return limit;
+    }
+
+    synchronized int inFlight() {
+        return inFlight;
+    }
+
+    synchronized int queued() {
+        return queue.size();
+    }
+
+    private Mono<Permit> acquire() {
+        return Mono.<Permit>create(sink -> {
+                    Waiter waiter = new Waiter(sink);
+                    sink.onCancel(() -> cancel(waiter));
+                    Permit permit = null;
+                    boolean rejected = false;
+                    synchronized (this) {
+                        if (queue.isEmpty() && canAcquire(System.nanoTime())) {
+                            permit = grant();
+                        } else if (queue.size() >= settings.getMaxQueueSize()) {
+                            rejected = true;
+                        } else {
+                            queue.addLast(waiter);
+                        }
+                    }
+                    if (permit != null) {
+                        sink.success(permit);
+                    } else if (rejected) {
+                        queueFull.increment();
+                        sink.error(new AiServiceException("OPENAI_LIMITER_QUEUE_FULL", "OpenAI 호출 대기열이 가득 찼습니다."));
+                    }
+                })
+                .timeout(Duration.ofMillis(settings.getQueueTimeoutMillis()), Mono.defer(() -> {
+                    queueTimeouts.increment();
+                    return Mono.error(new AiServiceException(
+                            "OPENAI_QUEUE_TIMEOUT", "OpenAI 호출 대기 시간이 초과되었습니다."));
+                }));
+    }
+
+    private boolean canAcquire(long now) {
+        return inFlight < (int) limit && now - pausedUntil >= 0;
+    }
+
+    private Permit grant() {
+        inFlight++;
+        return new Permit(System.nanoTime());
+    }
+
+    private void cancel(Waiter waiter) {
+        Permit permit;
+        synchronized (this) {
+            if (queue.remove(waiter)) {
+                return;
+            }
+            permit = waiter.permit;
+        }
+        if (permit != null) {
+            permit.release(Outcome.IGNORED, 0);
+        }
+    }
+
+    private void release(Permit permit, Throwable error) {
+        if (error instanceof WebClientResponseException ex && isOverload(ex.getStatusCode().value())) {
+            permit.release(Outcome.DROPPED, retryAfterMillis(ex));
+        } else {
+            permit.release(Outcome.IGNORED, 0);
+        }
+    }
+
+    private void onRelease(Permit permit, Outcome outcome, long retryAfterMillis) {
+        synchronized (this) {
+            inFlight--;
+            long now = System.nanoTime();
+            if (outcome == Outcome.SUCCESS) {
+                limit = Math.min(settings.getMaxLimit(), limit + 1.0 / limit);
+            } else if (outcome == Outcome.DROPPED) {
+                if (permit.acquiredAt - lastDecreaseAt > 0) {
+                    limit = Math.max(settings.getMinLimit(), limit * BACKOFF_RATIO);
+                    lastDecreaseAt = now;
+                    logger.warn("OpenAI 과부하 응답으로 동시 호출 한도를 낮춥니다. limit={}", (int) limit);
+                }
+                if (retryAfterMillis > 0) {
+                    long resumeAt = now + TimeUnit.MILLISECONDS.toNanos(retryAfterMillis);
+                    if (resumeAt - pausedUntil > 0) {
+                        pausedUntil = resumeAt;
+                        logger.warn("OpenAI Retry-After에 따라 {}ms 동안 호출을 멈춥니다.", retryAfterMillis);
+                        Schedulers.parallel().schedule(this::drain, retryAfterMillis, TimeUnit.MILLISECONDS);
+                    }
+                }
+            }
+        }
+        drain();
+    }
+
+    private void drain() {
+        List<Waiter> granted = new ArrayList<>();
+        synchronized (this) {
+            long now = System.nanoTime();
+            while (!queue.isEmpty() && canAcquire(now)) {
+                Waiter waiter = queue.pollFirst();
+                waiter.permit = grant();
+                granted.add(waiter);
+            }
+        }
+        for (Waiter waiter : granted) {
+            waiter.sink.success(waiter.permit);
+        }
+    }
+
+    private boolean isOverload(int status) {
+        return status == HttpStatus.TOO_MANY_REQUESTS.value() || (status >= 500 && status < 600);
+    }
+
+    static long retryAfterMillis(WebClientResponseException ex) {
+        String value = ex.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        long millis;
+        try {
+            millis = Long.parseLong(value.trim()) * 1000;
+        } catch (NumberFormatException notSeconds) {
+            try {
+                ZonedDateTime at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                millis = Duration.between(ZonedDateTime.now(at.getZone()), at).toMillis();
+            } catch (DateTimeParseException invalid) {
+                return 0;
+            }
+        }
+        return Math.max(0, Math.min(millis, MAX_PAUSE_MILLIS));
+    }
+
+    private enum Outcome {
+        SUCCESS,
+        DROPPED,
+        IGNORED
+    }
+
+    private static final class Waiter {
+
+        private final MonoSink<Permit> sink;
+        private Permit permit;
+
+        private Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+    }
+
+    private final class Permit {
+
+        private final long acquiredAt;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long acquiredAt) {
+            this.acquiredAt = acquiredAt;
+        }
+
+        private void release(Outcome outcome, long retryAfterMillis) {
+            if (released.compareAndSet(false, true)) {
+                onRelease(this, outcome, retryAfterMillis);
+            }
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.validator.infrastructure.ai;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.validator.domain.model.CodeSubmission;
+import com.validator.domain.model.Issue;
+import com.validator.infrastructure.config.AiCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@Component
+public class AiAnalysisCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(AiAnalysisCache.class);
+    private static final TypeReference<DiskEntry> DISK_ENTRY_TYPE = new TypeReference<>() {
+    };
+
+    private final AiCacheProperties properties;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, CacheEntry> entries;
+    private final Counter memoryHits;
+    private final Counter diskHits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Disposable diskSweeper;
+
+    public AiAnalysisCache(AiCacheProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                boolean evict = size() > properties.getMaxEntries();
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+        this.memoryHits = Counter.builder("ai.analysis.cache.gets")
+                .tag("result", "hit")
+                .tag("tier", "memory")
+                .register(meterRegistry);
+        this.diskHits = Counter.builder("ai.analysis.cache.gets")
+                .tag("result", "hit")
+                .tag("tier", "disk")
+                .register(meterRegistry);
+        this.misses = Counter.builder("ai.analysis.cache.gets")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("ai.analysis.cache.evictions")
+                .register(meterRegistry);
+        Gauge.builder("ai.analysis.cache.size", this, AiAnalysisCache::size)
+                .register(meterRegistry);
+        long sweepInterval = Math.max(1, properties.getDiskSweepIntervalMinutes());
+        this.diskSweeper = properties.isDiskEnabled()
+                ? Schedulers.boundedElastic().schedulePeriodically(
+                        this::sweepDisk, sweepInterval, sweepInterval, TimeUnit.MINUTES)
+                : null;
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (diskSweeper != null) {
+            diskSweeper.dispose();
+        }
+    }
+
+    public String keyOf(CodeSubmission submission, String model, String promptVersion) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            update(digest, promptVersion);
+            update(digest, model);
+            update(digest, submission.language());
+            update(digest, submission.filePath());
+            update(digest, submission.context());
+            update(digest, normalize(submission.sourceCode(), keepsIndentation(submission.language())));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", ex);
+        }
+    }
+
+    public Mono<Optional<List<Issue>>> lookup(String key) {
+        if (!properties.isEnabled()) {
+            return Mono.just(Optional.empty());
+        }
+        Optional<List<Issue>> fromMemory = getFromMemory(key);
+        if (fromMemory.isPresent() || !properties.isDiskEnabled()) {
+            if (fromMemory.isEmpty()) {
+                misses.increment();
+            }
+            return Mono.just(fromMemory);
+        }
+        return Mono.fromCallable(() -> getFromDisk(key))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Optional<List<Issue>> getFromMemory(String key) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            CacheEntry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt() > now) {
+                    memoryHits.increment();
+                    return Optional.of(entry.issues());
+                }
+                entries.remove(key);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<List<Issue>> getFromDisk(String key) {
+        long now = System.currentTimeMillis();
+        Optional<List<Issue>> fromDisk = readFromDisk(key, now);
+        if (fromDisk.isPresent()) {
+            diskHits.increment();
+            putInMemory(key, fromDisk.get(), now);
+            return fromDisk;
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(String key, List<Issue> issues) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<Issue> snapshot = List.copyOf(issues);
+        putInMemory(key, snapshot, now);
+        if (properties.isDiskEnabled()) {
+            Schedulers.boundedElastic().schedule(() -> writeToDisk(key, snapshot, now));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void putInMemory(String key, List<Issue> issues, long now) {
+        synchronized (entries) {
+            entries.put(key, new CacheEntry(issues, now + ttlMillis()));
+        }
+    }
+
+    private Optional<List<Issue>> readFromDisk(String key, long now) {
+        if (!properties.isDiskEnabled()) {
+            return Optional.empty();
+        }
+        Path file = diskPath(key);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            DiskEntry entry = objectMapper.readValue(file.toFile(), DISK_ENTRY_TYPE);
+            if (entry.createdAt() + ttlMillis() <= now) {
+                Files.deleteIfExists(file);
+                return Optional.empty();
+            }
+            return Optional.of(List.copyOf(entry.issues()));
+        } catch (IOException ex) {
+            logger.warn("AI 분석 캐시 파일을 읽지 못했습니다. key={}", key, ex);
+            return Optional.empty();
+        }
+    }
+
+    private void writeToDisk(String key, List<Issue> issues, long now) {
+        Path file = diskPath(key);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), key, ".tmp");
+            objectMapper.writeValue(temp.toFile(), new DiskEntry(now, issues));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            logger.warn("AI 분석 캐시 파일을 저장하지 못했습니다. key={}", key, ex);
+        }
+    }
+
+    void sweepDisk() {
+        Path directory = Path.of(properties.getDiskDirectory());
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        long expiry = System.currentTimeMillis() - ttlMillis();
+        List<DiskFile> files = new ArrayList<>();
+        try (Stream<Path> paths = Files.list(directory)) {
+            for (Path file : paths.toList()) {
+                if (file.getFileName().toString().endsWith(".json")) {
+                    files.add(new DiskFile(file, Files.getLastModifiedTime(file).toMillis()));
+                }
+            }
+        } catch (IOException ex) {
+            logger.warn("AI 분석 캐시 디렉터리를 읽지 못했습니다. directory={}", directory, ex);
+            return;
+        }
+        files.sort(Comparator.comparingLong(DiskFile::modifiedAt).reversed());
+        int removed = 0;
+        for (int i = 0; i < files.size(); i++) {
+            DiskFile file = files.get(i);
+            if (file.modifiedAt() > expiry && i < properties.getDiskMaxEntries()) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(file.path());
+                removed++;
+            } catch (IOException ex) {
+                logger.warn("AI 분석 캐시 파일을 삭제하지 못했습니다. file={}", file.path(), ex);
+            }
+        }
+        if (removed > 0) {
+            logger.info("AI 분석 디스크 캐시를 정리했습니다. removed={}, remaining={}", removed, files.size() - removed);
+        }
+    }
+
+    private Path diskPath(String key) {
+        return Path.of(properties.getDiskDirectory()).resolve(key + ".json");
+    }
+
+    private long ttlMillis() {
+        return properties.getTtlMinutes() * 60_000L;
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update((value == null ? "" : value).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static boolean keepsIndentation(String language) {
+        return language != null
+                && PromptCompactor.INDENT_SENSITIVE_LANGUAGES.contains(language.trim().toUpperCase(Locale.ROOT));
+    }
+
+    static String normalize(String source, boolean keepIndentation) {
+        StringBuilder normalized = new StringBuilder(source.length());
+        boolean pendingSpace = false;
+        boolean lineStart = true;
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == '\r') {
+                continue;
+            }
+            if (c == '\n') {
+                normalized.append('\n');
+                pendingSpace = false;
+                lineStart = true;
+            } else if (Character.isWhitespace(c)) {
+                if (lineStart && keepIndentation) {
+                    normalized.append(c);
+                } else {
+                    pendingSpace = !lineStart;
+                }
+            } else {
+                if (pendingSpace) {
+                    normalized.append(' ');
+                    pendingSpace = false;
+                }
+                normalized.append(c);
+                lineStart = false;
+            }
+        }
+        return normalized.toString();
+    }
+
+    private record CacheEntry(List<Issue> issues, long expiresAt) {
+    }
+
+    private record DiskEntry(long createdAt, List<Issue> issues) {
+    }
+
+    private record DiskFile(Path path, long modifiedAt) {
+    }
+}
@@ -1,80 +1,316 @@
 package com.validator.infrastructure.ai;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.validator.domain.model.Issue;
 import com.validator.domain.model.IssueSeverity;
 import com.validator.domain.model.IssueSource;
 import com.validator.domain.model.IssueType;
+import com.validator.exception.AiServiceException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
+/**
+ * OpenAI 응답을 트리 없이 스트리밍 토큰으로 해석한다.
+ * 응답 버퍼에서 envelope를 읽고, content 문자열은 파서의 문자 버퍼를 그대로 재해석하여 Issue로 변환한다.
+ */
 @Component
 public class AiAnalysisResponseParser {
 
     private static final Logger logger = LoggerFactory.getLogger(AiAnalysisResponseParser.class);
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final int NO_FILE = -1;
+    private static final Set<String> PARSED = Set.of("array", "content", "extracted");
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final MeterRegistry meterRegistry;
+    private final Counter promptTokens;
+    private final Counter completionTokens;
+
+    public AiAnalysisResponseParser(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.promptTokens = Counter.builder("ai.openai.tokens")
+                .tag("type", "prompt")
+                .register(meterRegistry);
+        this.completionTokens = Counter.builder("ai.openai.tokens")
+                .tag("type", "completion")
+                .register(meterRegistry);
+    }
+
+    public List<Issue> parseIssues(byte[] responseContent) {
+        List<Issue> issues = new ArrayList<>();
+        readResponse(() -> jsonFactory.createParser(responseContent), issues, null);
+        return issues;
+    }
 
     public List<Issue> parseIssues(String responseContent) {
         List<Issue> issues = new ArrayList<>();
-        try {
-            JsonNode root = objectMapper.readTree(responseContent);
-            if (root.isArray()) {
-                return parseIssueArray(root, issues);
+        readResponse(() -> jsonFactory.createParser(responseContent), issues, null);
+        return issues;
+    }
+
+    public List<List<Issue>> parseBatchIssues(byte[] responseContent, int fileCount) {
+        List<List<Issue>> issuesByFile = new ArrayList<>(fileCount);
+        for (int i = 0; i < fileCount; i++) {
+            issuesByFile.add(new ArrayList<>());
+        }
+        List<Issue> issues = new ArrayList<>();
+        List<Integer> files = new ArrayList<>();
+        readResponse(() -> jsonFactory.createParser(responseContent), issues, files);
+        for (int i = 0; i < issues.size(); i++) {
+            int file = files.get(i);
+            if (file >= 0 && file < fileCount) {
+                issuesByFile.get(file).add(issues.get(i));
+            }
+        }
+        return issuesByFile;
+    }
+
+    public IncrementalIssueParser newIncrementalParser() {
+        return new IncrementalIssueParser(this);
+    }
+
+    public String extractDeltaContent(String streamChunk) {
+        try (JsonParser parser = jsonFactory.createParser(streamChunk)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            String[] content = new String[1];
+            readEnvelope(parser, "delta", (chars, offset, length) -> content[0] = new String(chars, offset, length));
+            return content[0];
+        } catch (IOException ex) {
+            logger.warn("AI 스트리밍 응답 조각을 해석하지 못했습니다.");
+            recordParse("invalid_chunk");
+            return null;
+        }
+    }
+
+    Issue parseIssueObject(String json) {
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
             }
+            List<Issue> issues = new ArrayList<>(1);
+            readIssue(parser, issues, null);
+            return issues.isEmpty() ? null : issues.get(0);
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    private void readResponse(ParserSource source, List<Issue> issues, List<Integer> files) {
+        String outcome = parseResponse(source, issues, files);
+        recordParse(outcome);
+        if (!PARSED.contains(outcome)) {
+            throw new AiServiceException("AI_RESPONSE_INVALID", "AI 응답을 이슈 목록으로 해석하지 못했습니다. outcome=" + outcome);
+        }
+    }
 
-            JsonNode message = root.at("/choices/0/message/content");
-            if (message.isMissingNode()) {
+    private String parseResponse(ParserSource source, List<Issue> issues, List<Integer> files) {
+        try (JsonParser parser = source.open()) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                readIssueArray(parser, issues, files);
+                return "array";
+            }
+            if (token != JsonToken.START_OBJECT) {
+                return "invalid_json";
+            }
+            String[] outcome = new String[1];
+            boolean found = readEnvelope(parser, "message",
+                    (chars, offset, length) -> outcome[0] = readContent(chars, offset, length, issues, files));
+            if (!found) {
                 logger.warn("AI 응답에 message content가 없습니다.");
-                return issues;
+                return "missing_content";
             }
+            return outcome[0];
+        } catch (IOException ex) {
+            return "invalid_json";
+        }
+    }
 
-            String content = message.asText();
-            JsonNode parsed = objectMapper.readTree(content);
-            if (parsed.isArray()) {
-                return parseIssueArray(parsed, issues);
+    private boolean readEnvelope(JsonParser parser, String container, ContentHandler handler) throws IOException {
+        boolean found = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("choices".equals(field) && value == JsonToken.START_ARRAY) {
+                found |= readChoices(parser, container, handler);
+            } else if ("usage".equals(field) && value == JsonToken.START_OBJECT) {
+                readUsage(parser);
+            } else {
+                parser.skipChildren();
             }
-            String extracted = extractJsonArray(content);
-            if (extracted != null) {
-                JsonNode extractedNode = objectMapper.readTree(extracted);
-                if (extractedNode.isArray()) {
-                    return parseIssueArray(extractedNode, issues);
-                }
+        }
+        return found;
+    }
+
+    private boolean readChoices(JsonParser parser, String container, ContentHandler handler) throws IOException {
+        boolean found = false;
+        boolean first = true;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (first && parser.currentToken() == JsonToken.START_OBJECT) {
+                found = readChoice(parser, container, handler);
+            } else {
+                parser.skipChildren();
             }
-            logger.warn("AI 응답 content가 JSON 배열 형식이 아닙니다.");
-        } catch (Exception ignored) {
-            return issues;
+            first = false;
         }
-        return issues;
+        return found;
+    }
+
+    private boolean readChoice(JsonParser parser, String container, ContentHandler handler) throws IOException {
+        boolean found = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (container.equals(field) && value == JsonToken.START_OBJECT) {
+                found = readMessage(parser, handler);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return found;
     }
 
-    private List<Issue> parseIssueArray(JsonNode arrayNode, List<Issue> issues) {
-        for (JsonNode node : arrayNode) {
-            IssueType type = safeType(node.path("type").asText(null));
-            IssueSeverity severity = safeSeverity(node.path("severity").asText(null));
-            String messageText = node.path("message").asText(null);
+    private boolean readMessage(JsonParser parser, ContentHandler handler) throws IOException {
+        boolean found = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("content".equals(field) && value == JsonToken.VALUE_STRING) {
+                handler.accept(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                found = true;
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return found;
+    }
 
-            if (type == null || severity == null || messageText == null || messageText.isBlank()) {
-                continue;
+    private void readUsage(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NUMBER_INT && "prompt_tokens".equals(field)) {
+                promptTokens.increment(parser.getLongValue());
+            } else if (value == JsonToken.VALUE_NUMBER_INT && "completion_tokens".equals(field)) {
+                completionTokens.increment(parser.getLongValue());
+            } else {
+                parser.skipChildren();
             }
+        }
+    }
 
-            Integer line = node.path("line").isInt() ? node.path("line").asInt() : null;
-            issues.add(new Issue(type, severity, messageText, line, IssueSource.AI_ASSIST));
+    private String readContent(char[] chars, int offset, int length, List<Issue> issues, List<Integer> files) {
+        if (readArrayAt(chars, offset, length, issues, files)) {
+            return "content";
+        }
+        int start = indexOf(chars, offset, length, '[');
+        int end = lastIndexOf(chars, offset, length, ']');
+        if (start != -1 && end > start && readArrayAt(chars, start, end - start + 1, issues, files)) {
+            return "extracted";
+        }
+        logger.warn("AI 응답 content가 JSON 배열 형식이 아닙니다.");
+        return "not_array";
+    }
+
+    private boolean readArrayAt(char[] chars, int offset, int length, List<Issue> issues, List<Integer> files) {
+        int mark = issues.size();
+        try (JsonParser parser = jsonFactory.createParser(chars, offset, length)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return false;
+            }
+            readIssueArray(parser, issues, files);
+            return true;
+        } catch (IOException ex) {
+            issues.subList(mark, issues.size()).clear();
+            if (files != null) {
+                files.subList(mark, files.size()).clear();
+            }
+            return false;
+        }
+    }
+
+    private void readIssueArray(JsonParser parser, List<Issue> issues, List<Integer> files) throws IOException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == JsonToken.START_OBJECT) {
+                readIssue(parser, issues, files);
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readIssue(JsonParser parser, List<Issue> issues, List<Integer> files) throws IOException {
+        String rawType = null;
+        String rawSeverity = null;
+        String messageText = null;
+        Integer line = null;
+        int file = NO_FILE;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "type" -> rawType = scalarText(parser, value);
+                case "severity" -> rawSeverity = scalarText(parser, value);
+                case "message" -> messageText = scalarText(parser, value);
+                case "line" -> line = isInt(parser, value) ? parser.getIntValue() : null;
+                case "file" -> file = isInt(parser, value) ? parser.getIntValue() : NO_FILE;
+                default -> parser.skipChildren();
+            }
+        }
+
+        IssueType type = safeType(rawType);
+        IssueSeverity severity = safeSeverity(rawSeverity);
+        if (type == null || severity == null || messageText == null || messageText.isBlank()) {
+            return;
+        }
+        issues.add(new Issue(type, severity, messageText, line, IssueSource.AI_ASSIST));
+        if (files != null) {
+            files.add(file);
         }
-        return issues;
     }
 
-    private String extractJsonArray(String content) {
-        int start = content.indexOf('[');
-        int end = content.lastIndexOf(']');
-        if (start == -1 || end == -1 || end <= start) {
+    private String scalarText(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
             return null;
         }
-        return content.substring(start, end + 1);
+        if (value.isStructStart()) {
+            parser.skipChildren();
+            return "";
+        }
+        return parser.getText();
+    }
+
+    private boolean isInt(JsonParser parser, JsonToken value) throws IOException {
+        return value == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() == JsonParser.NumberType.INT;
+    }
+
+    private int indexOf(char[] chars, int offset, int length, char target) {
+        for (int i = offset; i < offset + length; i++) {
+            if (chars[i] == target) return i;
+        }
+        return -1;
+    }
+
+    private int lastIndexOf(char[] chars, int offset, int length, char target) {
+        for (int i = offset + length - 1; i >= offset; i--) {
+            if (chars[i] == target) return i;
+        }
+        return -1;
+    }
+
+    private void recordParse(String outcome) {
+        meterRegistry.counter("ai.analysis.parse", "outcome", outcome).increment();
     }
 
     private IssueType safeType(String raw) {
@@ -94,4 +330,14 @@ public class AiAnalysisResponseParser {
             return IssueSeverity.LOW;
         }
     }
+
+    @FunctionalInterface
+    private interface ParserSource {
+        JsonParser open() throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ContentHandler {
+        void accept(char[] chars, int offset, int length) throws IOException;
+    }
 }
@@ -0,0 +1,32 @@
+package com.validator.infrastructure.ai;
+
+import com.validator.domain.model.AiAnalysisStatus;
+import com.validator.domain.model.Issue;
+
+import java.util.List;
+
+public record AiAnalysisResult(
+        List<Issue> issues,
+        AiAnalysisStatus status
+) {
+
+    public static AiAnalysisResult completed(List<Issue> issues) {
+        return new AiAnalysisResult(issues, AiAnalysisStatus.COMPLETED);
+    }
+
+    public static AiAnalysisResult skipped() {
+        return new AiAnalysisResult(List.of(), AiAnalysisStatus.SKIPPED);
+    }
+
+    public static AiAnalysisResult shortCircuited() {
+        return new AiAnalysisResult(List.of(), AiAnalysisStatus.SHORT_CIRCUITED);
+    }
+
+    public static AiAnalysisResult degraded() {
+        return new AiAnalysisResult(List.of(), AiAnalysisStatus.DEGRADED);
+    }
+
+    public static AiAnalysisResult degraded(List<Issue> issues) {
+        return new AiAnalysisResult(issues, AiAnalysisStatus.DEGRADED);
+    }
+}
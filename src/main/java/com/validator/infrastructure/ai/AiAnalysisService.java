@@ -3,62 +3,307 @@ package com.validator.infrastructure.ai;
 import com.validator.domain.model.CodeSubmission;
 import com.validator.domain.model.Issue;
 import com.validator.exception.AiServiceException;
+import com.validator.infrastructure.config.AiTierProperties;
 import com.validator.infrastructure.config.OpenAiProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 public class AiAnalysisService {
 
     private static final Logger logger = LoggerFactory.getLogger(AiAnalysisService.class);
+    static final String PROMPT_VERSION = "v2";
 
-    private final OpenAiClient openAiClient;
+    private final AiProviderRouter router;
     private final AiAnalysisResponseParser parser;
     private final OpenAiProperties properties;
+    private final AiAnalysisCache cache;
+    private final AiTierSelector tierSelector;
 
     public AiAnalysisService(
-            OpenAiClient openAiClient,
+            AiProviderRouter router,
             AiAnalysisResponseParser parser,
-            OpenAiProperties properties
+            OpenAiProperties properties,
+            AiAnalysisCache cache,
+            AiTierSelector tierSelector
     ) {
-        this.openAiClient = openAiClient;
+        this.router = router;
         this.parser = parser;
         this.properties = properties;
+        this.cache = cache;
+        this.tierSelector = tierSelector;
     }
 
-    public List<Issue> analyze(CodeSubmission submission) {
-        if (!properties.isEnabled()) {
-            logger.info("AI 분석이 비활성화되어 있습니다 (ai.openai.enabled=false).");
-            return Collections.emptyList();
+    public boolean isEnabled() {
+        return router.hasEnabledProvider();
+    }
+
+    public boolean isProviderRegistered(String name) {
+        return router.isRegistered(name);
+    }
+
+    public Mono<AiAnalysisResult> analyze(CodeSubmission submission) {
+        AiProvider provider = router.route(submission);
+        if (provider == null) {
+            logger.info("사용 가능한 AI 제공자가 없어 AI 분석을 건너뜁니다.");
+            return Mono.just(AiAnalysisResult.skipped());
+        }
+
+        String cacheKey = cacheKeyOf(submission, provider);
+        return cache.lookup(cacheKey)
+                .flatMap(cached -> {
+                    if (cached.isPresent()) {
+                        logger.info("AI 분석 캐시를 사용합니다. issueCount={}", cached.get().size());
+                        return Mono.just(AiAnalysisResult.completed(cached.get()));
+                    }
+                    return requestAnalysis(provider, submission, compact(submission), cacheKey);
+                });
+    }
+
+    public Flux<Issue> analyzeStream(CodeSubmission submission) {
+        AiProvider provider = router.route(submission);
+        if (provider == null) {
+            logger.info("사용 가능한 AI 제공자가 없어 AI 분석을 건너뜁니다.");
+            return Flux.empty();
+        }
+
+        String cacheKey = cacheKeyOf(submission, provider);
+        return cache.lookup(cacheKey)
+                .flatMapMany(cached -> {
+                    if (cached.isPresent()) {
+                        logger.info("AI 분석 캐시를 사용합니다. issueCount={}", cached.get().size());
+                        return Flux.fromIterable(cached.get());
+                    }
+                    return requestStreamingAnalysis(provider, submission, cacheKey);
+                });
+    }
+
+    private Flux<Issue> requestStreamingAnalysis(AiProvider provider, CodeSubmission submission, String cacheKey) {
+        CompactedSource compacted = compact(submission);
+        String prompt = buildPrompt(submission, compacted);
+        return Flux.defer(() -> {
+            logger.info("AI 스트리밍 분석 요청을 시작합니다. provider={}", provider.name());
+            IncrementalIssueParser incrementalParser = parser.newIncrementalParser();
+            List<Issue> received = new ArrayList<>();
+            return provider.streamCode(modelFor(provider, submission), prompt)
+                    .mapNotNull(parser::extractDeltaContent)
+                    .concatMapIterable(incrementalParser::feed)
+                    .map(compacted::remap)
+                    .doOnNext(received::add)
+                    .concatWith(Mono.defer(() -> {
+                        if (!incrementalParser.isComplete()) {
+                            return Mono.error(new AiServiceException("AI_RESPONSE_INVALID",
+                                    "AI 스트리밍 응답이 완결된 JSON 배열이 아닙니다."));
+                        }
+                        if (compacted.truncated()) {
+                            return Mono.error(new AiServiceException("AI_PROMPT_TRUNCATED",
+                                    "토큰 예산을 넘어 소스 일부만 분석했습니다."));
+                        }
+                        logger.info("AI 스트리밍 분석이 완료되었습니다. issueCount={}", received.size());
+                        cache.put(cacheKey, received);
+                        return Mono.empty();
+                    }))
+                    .doOnError(ex -> logger.warn("AI 스트리밍 분석이 실패했습니다. receivedIssues={}",
+                            received.size(), ex));
+        });
+    }
+
+    public Mono<List<AiAnalysisResult>> analyzeBatch(List<CodeSubmission> submissions, int concurrency) {
+        if (!router.hasEnabledProvider()) {
+            logger.info("사용 가능한 AI 제공자가 없어 AI 분석을 건너뜁니다.");
+            return Mono.just(new ArrayList<>(Collections.nCopies(submissions.size(), AiAnalysisResult.skipped())));
+        }
+
+        List<AiProvider> providers = new ArrayList<>(submissions.size());
+        List<String> cacheKeys = new ArrayList<>(submissions.size());
+        for (CodeSubmission submission : submissions) {
+            AiProvider provider = router.route(submission);
+            providers.add(provider);
+            cacheKeys.add(provider == null ? null : cacheKeyOf(submission, provider));
+        }
+        return Flux.range(0, submissions.size())
+                .flatMapSequential(index -> cacheKeys.get(index) == null
+                        ? Mono.just(Optional.<List<Issue>>empty())
+                        : cache.lookup(cacheKeys.get(index)))
+                .collectList()
+                .flatMap(cached -> {
+                    List<AiAnalysisResult> results = new ArrayList<>(submissions.size());
+                    List<CompactedSource> compacted = new ArrayList<>(submissions.size());
+                    Map<Route, List<Integer>> pendingByRoute = new LinkedHashMap<>();
+                    for (int i = 0; i < submissions.size(); i++) {
+                        AiProvider provider = providers.get(i);
+                        if (provider == null) {
+                            results.add(AiAnalysisResult.skipped());
+                            compacted.add(null);
+                            continue;
+                        }
+                        results.add(cached.get(i).map(AiAnalysisResult::completed).orElse(null));
+                        compacted.add(cached.get(i).isEmpty() ? compact(submissions.get(i)) : null);
+                        if (cached.get(i).isEmpty()) {
+                            Route route = new Route(provider, modelFor(provider, submissions.get(i)));
+                            pendingByRoute.computeIfAbsent(route, key -> new ArrayList<>()).add(i);
+                        }
+                    }
+                    logger.info("AI 배치 분석을 시작합니다. fileCount={}, pending={}", submissions.size(),
+                            pendingByRoute.values().stream().mapToInt(List::size).sum());
+
+                    return Flux.fromIterable(pendingByRoute.entrySet())
+                            .concatMapIterable(entry -> packGroups(compacted, entry.getValue()).stream()
+                                    .map(group -> Map.entry(entry.getKey(), group))
+                                    .toList())
+                            .flatMap(entry -> analyzeGroup(entry.getKey(), submissions, compacted, cacheKeys,
+                                            entry.getValue())
+                                    .doOnNext(groupResults -> {
+                                        for (int i = 0; i < entry.getValue().size(); i++) {
+                                            results.set(entry.getValue().get(i), groupResults.get(i));
+                                        }
+                                    }), concurrency)
+                            .then(Mono.fromSupplier(() -> results));
+                });
+    }
+
+    private Mono<List<AiAnalysisResult>> analyzeGroup(
+            Route route,
+            List<CodeSubmission> submissions,
+            List<CompactedSource> compacted,
+            List<String> cacheKeys,
+            List<Integer> group
+    ) {
+        if (group.size() == 1) {
+            int index = group.get(0);
+            return requestAnalysis(route.provider(), submissions.get(index), compacted.get(index), cacheKeys.get(index))
+                    .map(List::of);
+        }
+
+        List<CodeSubmission> packed = group.stream().map(submissions::get).toList();
+        List<CompactedSource> packedSources = group.stream().map(compacted::get).toList();
+        String prompt = buildBatchPrompt(packed, packedSources);
+        return Mono.defer(() -> {
+                    logger.info("AI 배치 분석 요청을 시작합니다. provider={}, model={}, packedFiles={}",
+                            route.provider().name(), route.model(), packed.size());
+                    return route.provider().analyzeCode(route.model(), prompt);
+                })
+                .map(response -> parser.parseBatchIssues(response, packed.size()))
+                .map(issuesByFile -> {
+                    List<AiAnalysisResult> results = new ArrayList<>(group.size());
+                    for (int i = 0; i < group.size(); i++) {
+                        List<Issue> issues = packedSources.get(i).remap(issuesByFile.get(i));
+                        results.add(finish(packedSources.get(i), cacheKeys.get(group.get(i)), issues));
+                    }
+                    return results;
+                })
+                .onErrorResume(ex -> {
+                    logger.warn("AI 배치 분석이 실패했습니다. packedFiles={}", packed.size(), ex);
+                    return Mono.just(new ArrayList<>(Collections.nCopies(packed.size(), AiAnalysisResult.degraded())));
+                });
+    }
+
+    private List<List<Integer>> packGroups(List<CompactedSource> compacted, List<Integer> pending) {
+        List<List<Integer>> groups = new ArrayList<>();
+        List<Integer> current = new ArrayList<>();
+        int currentTokens = 0;
+        for (int index : pending) {
+            int tokens = compacted.get(index).estimatedTokens();
+            if (tokens >= properties.getBatchTokenBudget()) {
+                groups.add(List.of(index));
+                continue;
+            }
+            if (!current.isEmpty() && (currentTokens + tokens > properties.getBatchTokenBudget()
+                    || current.size() >= properties.getBatchMaxFiles())) {
+                groups.add(current);
+                current = new ArrayList<>();
+                currentTokens = 0;
+            }
+            current.add(index);
+            currentTokens += tokens;
+        }
+        if (!current.isEmpty()) {
+            groups.add(current);
+        }
+        return groups;
+    }
+
+    private CompactedSource compact(CodeSubmission submission) {
+        int budget = promptTokenBudget(submission);
+        CompactedSource compacted = new PromptCompactor(budget).compact(submission.sourceCode(), submission.language());
+        if (compacted.truncated()) {
+            logger.warn("프롬프트 토큰 예산을 넘어 소스 뒷부분을 생략합니다. filePath={}, budget={}",
+                    submission.filePath(), budget);
         }
+        return compacted;
+    }
+
+    private int promptTokenBudget(CodeSubmission submission) {
+        AiTierProperties.Tier tier = tierSelector.settings(submission.aiTier());
+        return tier != null && tier.getPromptTokenBudget() > 0
+                ? tier.getPromptTokenBudget()
+                : properties.getPromptTokenBudget();
+    }
+
+    private String modelFor(AiProvider provider, CodeSubmission submission) {
+        AiTierProperties.Tier tier = tierSelector.settings(submission.aiTier());
+        String model = tier == null ? null : tier.getModels().get(provider.name());
+        return model == null || model.isBlank() ? provider.model() : model;
+    }
+
+    private String cacheKeyOf(CodeSubmission submission, AiProvider provider) {
+        String model = provider.name() + ":" + modelFor(provider, submission) + ":" + promptTokenBudget(submission);
+        return cache.keyOf(submission, model, PROMPT_VERSION);
+    }
 
-        String prompt = buildPrompt(submission);
-        try {
-            logger.info("AI 분석 요청을 시작합니다.");
-            String response = openAiClient.analyzeCode(prompt);
-            List<Issue> issues = parser.parseIssues(response);
-            logger.info("AI 분석이 완료되었습니다. issueCount={}", issues.size());
-            return issues;
-        } catch (AiServiceException ex) {
-            logger.warn("AI 분석이 실패했습니다. code={}", ex.getCode());
-            return Collections.emptyList();
-        } catch (Exception ex) {
-            logger.warn("AI 분석이 예기치 않게 실패했습니다.", ex);
-            return Collections.emptyList();
+    private Mono<AiAnalysisResult> requestAnalysis(
+            AiProvider provider,
+            CodeSubmission submission,
+            CompactedSource compacted,
+            String cacheKey
+    ) {
+        String prompt = buildPrompt(submission, compacted);
+        String model = modelFor(provider, submission);
+        return Mono.defer(() -> {
+                    logger.info("AI 분석 요청을 시작합니다. provider={}, model={}", provider.name(), model);
+                    return provider.analyzeCode(model, prompt);
+                })
+                .map(parser::parseIssues)
+                .map(compacted::remap)
+                .map(issues -> {
+                    logger.info("AI 분석이 완료되었습니다. issueCount={}", issues.size());
+                    return finish(compacted, cacheKey, issues);
+                })
+                .onErrorResume(AiServiceException.class, ex -> {
+                    logger.warn("AI 분석이 실패했습니다. code={}", ex.getCode());
+                    return Mono.just(AiAnalysisResult.degraded());
+                })
+                .onErrorResume(ex -> {
+                    logger.warn("AI 분석이 예기치 않게 실패했습니다.", ex);
+                    return Mono.just(AiAnalysisResult.degraded());
+                });
+    }
+
+    private AiAnalysisResult finish(CompactedSource compacted, String cacheKey, List<Issue> issues) {
+        if (compacted.truncated()) {
+            return AiAnalysisResult.degraded(issues);
         }
+        cache.put(cacheKey, issues);
+        return AiAnalysisResult.completed(issues);
     }
 
-    private String buildPrompt(CodeSubmission submission) {
+    private String buildPrompt(CodeSubmission submission, CompactedSource compacted) {
         return """
                 너는 코드 보안/품질 리뷰어다. 아래 코드를 분석하고 JSON 배열만 반환해라.
                 출력 규칙:
                 - 반드시 JSON 배열만 반환 (설명/마크다운/코드블록 금지)
                 - 스키마: [{"type":"SECURITY|QUALITY|SYNTAX|PERFORMANCE|OTHER","severity":"LOW|MEDIUM|HIGH|CRITICAL","message":"...","line":<number|null>}]
-                - line은 가능하면 숫자, 불가능하면 null
+                - line은 아래 코드의 첫 줄을 1로 센 줄 번호, 불가능하면 null
                 - 최대 8개 이슈까지만 반환
                 - 이슈가 없으면 [] 만 반환
                 - message는 한국어로 작성
@@ -72,7 +317,42 @@ public class AiAnalysisService {
                         submission.filePath() == null ? "" : submission.filePath(),
                         submission.language() == null ? "" : submission.language(),
                         submission.context() == null ? "" : submission.context(),
-                        submission.sourceCode()
+                        compacted.source()
                 );
     }
+
+    private String buildBatchPrompt(List<CodeSubmission> submissions, List<CompactedSource> compacted) {
+        StringBuilder prompt = new StringBuilder("""
+                너는 코드 보안/품질 리뷰어다. 아래 여러 파일을 각각 분석하고 JSON 배열 하나만 반환해라.
+                출력 규칙:
+                - 반드시 JSON 배열만 반환 (설명/마크다운/코드블록 금지)
+                - 스키마: [{"file":<number>,"type":"SECURITY|QUALITY|SYNTAX|PERFORMANCE|OTHER","severity":"LOW|MEDIUM|HIGH|CRITICAL","message":"...","line":<number|null>}]
+                - file은 아래 [FILE n] 머리글의 번호 n
+                - line은 해당 파일 코드의 첫 줄을 1로 센 줄 번호, 불가능하면 null
+                - 파일마다 최대 8개 이슈까지만 반환
+                - 이슈가 없으면 [] 만 반환
+                - message는 한국어로 작성
+                """);
+        for (int i = 0; i < submissions.size(); i++) {
+            CodeSubmission submission = submissions.get(i);
+            prompt.append("""
+                    [FILE %d]
+                    - filePath: %s
+                    - language: %s
+                    - context: %s
+                    코드:
+                    %s
+                    """.formatted(
+                            i,
+                            submission.filePath() == null ? "" : submission.filePath(),
+                            submission.language() == null ? "" : submission.language(),
+                            submission.context() == null ? "" : submission.context(),
+                            compacted.get(i).source()
+                    ));
+        }
+        return prompt.toString();
+    }
+
+    private record Route(AiProvider provider, String model) {
+    }
 }
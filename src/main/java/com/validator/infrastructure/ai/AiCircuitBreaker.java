@@ -0,0 +1,220 @@
+package com.validator.infrastructure.ai;
+
+import com.validator.exception.AiServiceException;
+import com.validator.infrastructure.config.OpenAiProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 최근 N건의 OpenAI 호출 결과로 회로를 여닫는 서킷 브레이커.
+ * 실패율 또는 느린 호출 비율(= 해당 백분위 지연이 기준을 넘는지)이 임계치를 넘으면 열리고,
+ * 열린 동안은 즉시 실패하며, 대기 시간이 지나면 소수의 탐색 호출로 복구 여부를 확인한다.
+ */
+final class AiCircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(AiCircuitBreaker.class);
+    private static final int FAILED = 1;
+    private static final int SLOW = 2;
+
+    enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final OpenAiProperties.CircuitBreaker settings;
+    private final MeterRegistry meterRegistry;
+    private final int[] window;
+    private int windowIndex;
+    private int recordedCalls;
+    private int failedCalls;
+    private int slowCalls;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    AiCircuitBreaker(OpenAiProperties.CircuitBreaker settings, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+        this.window = new int[Math.max(1, settings.getWindowSize())];
+        Gauge.builder("ai.openai.circuit.state", this, breaker -> breaker.state().ordinal())
+                .register(meterRegistry);
+    }
+
+    <T> Mono<T> protect(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            Call permit = tryAcquire();
+            if (permit == null) {
+                return Mono.error(openException());
+            }
+            return Mono.defer(call)
+                    .doOnSuccess(value -> permit.complete(null))
+                    .doOnError(permit::complete)
+                    .doOnCancel(permit::cancel);
+        });
+    }
+
+    <T> Flux<T> protectMany(Supplier<Flux<T>> call) {
+        return Flux.defer(() -> {
+            Call permit = tryAcquire();
+            if (permit == null) {
+                return Flux.error(openException());
+            }
+            return Flux.defer(call)
+                    .doOnComplete(() -> permit.complete(null))
+                    .doOnError(permit::complete)
+                    .doOnCancel(permit::cancel);
+        });
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    private synchronized Call tryAcquire() {
+        if (!settings.isEnabled()) {
+            return new Call(false);
+        }
+        long now = System.nanoTime();
+        if (state == State.OPEN) {
+            if (now - openedAt < TimeUnit.MILLISECONDS.toNanos(settings.getOpenDurationMillis())) {
+                return null;
+            }
+            transition(State.HALF_OPEN);
+            probesInFlight = 0;
+            probeSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= settings.getHalfOpenProbes()) {
+                return null;
+            }
+            probesInFlight++;
+            return new Call(true);
+        }
+        return new Call(false);
+    }
+
+    private synchronized void onResult(Call call, boolean failed, boolean slow) {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        if (call.probe) {
+            if (state != State.HALF_OPEN) {
+                return;
+            }
+            probesInFlight--;
+            if (failed || slow) {
+                open();
+            } else if (++probeSuccesses >= settings.getHalfOpenProbes()) {
+                resetWindow();
+                transition(State.CLOSED);
+                logger.info("OpenAI 회로가 닫혔습니다. 탐색 호출이 모두 성공했습니다.");
+            }
+            return;
+        }
+        if (state != State.CLOSED) {
+            return;
+        }
+        record((failed ? FAILED : 0) | (slow ? SLOW : 0));
+        if (recordedCalls >= settings.getMinimumCalls()
+                && (failedCalls * 100 >= settings.getFailureRateThreshold() * recordedCalls
+                || slowCalls * 100 >= settings.getSlowCallRateThreshold() * recordedCalls)) {
+            logger.warn("OpenAI 회로를 엽니다. calls={}, failed={}, slow={}", recordedCalls, failedCalls, slowCalls);
+            open();
+        }
+    }
+
+    private synchronized void onCancel(Call call) {
+        if (call.probe && state == State.HALF_OPEN) {
+            probesInFlight--;
+        }
+    }
+
+    private void record(int outcome) {
+        if (recordedCalls == window.length) {
+            int evicted = window[windowIndex];
+            if ((evicted & FAILED) != 0) failedCalls--;
+            if ((evicted & SLOW) != 0) slowCalls--;
+        } else {
+            recordedCalls++;
+        }
+        window[windowIndex] = outcome;
+        windowIndex = (windowIndex + 1) % window.length;
+        if ((outcome & FAILED) != 0) failedCalls++;
+        if ((outcome & SLOW) != 0) slowCalls++;
+    }
+
+    private void resetWindow() {
+        windowIndex = 0;
+        recordedCalls = 0;
+        failedCalls = 0;
+        slowCalls = 0;
+    }
+
+    private void open() {
+        openedAt = System.nanoTime();
+        transition(State.OPEN);
+    }
+
+    private void transition(State next) {
+        if (state != next) {
+            state = next;
+            meterRegistry.counter("ai.openai.circuit.transitions", "state", next.name()).increment();
+        }
+    }
+
+    private boolean isFailure(Throwable error) {
+        if (error instanceof WebClientResponseException ex) {
+            int status = ex.getStatusCode().value();
+            return status == HttpStatus.TOO_MANY_REQUESTS.value() || status >= 500;
+        }
+        return true;
+    }
+
+    private AiServiceException openException() {
+        meterRegistry.counter("ai.openai.circuit.rejected").increment();
+        return new AiServiceException("OPENAI_CIRCUIT_OPEN", "OpenAI 장애로 회로가 열려 있어 AI 분석을 건너뜁니다.");
+    }
+
+    private final class Call {
+
+        private final boolean probe;
+        private final long startedAt = System.nanoTime();
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Call(boolean probe) {
+            this.probe = probe;
+        }
+
+        private void complete(Throwable error) {
+            if (done.compareAndSet(false, true)) {
+                onResult(this, error != null && isFailure(error), isSlow());
+            }
+        }
+
+        private void cancel() {
+            if (done.compareAndSet(false, true)) {
+                if (isSlow()) {
+                    onResult(this, false, true);
+                } else {
+                    onCancel(this);
+                }
+            }
+        }
+
+        private boolean isSlow() {
+            return System.nanoTime() - startedAt > TimeUnit.MILLISECONDS.toNanos(settings.getSlowCallDurationMillis());
+        }
+    }
+}
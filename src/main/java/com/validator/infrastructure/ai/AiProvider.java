@@ -0,0 +1,17 @@
+package com.validator.infrastructure.ai;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface AiProvider {
+
+    String name();
+
+    String model();
+
+    boolean isEnabled();
+
+    Mono<byte[]> analyzeCode(String model, String prompt);
+
+    Flux<String> streamCode(String model, String prompt);
+}
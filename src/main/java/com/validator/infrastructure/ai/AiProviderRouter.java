@@ -0,0 +1,58 @@
+package com.validator.infrastructure.ai;
+
+import com.validator.domain.model.CodeSubmission;
+import com.validator.infrastructure.config.AiRoutingProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class AiProviderRouter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AiProviderRouter.class);
+
+    private final Map<String, AiProvider> providers = new LinkedHashMap<>();
+    private final AiRoutingProperties properties;
+
+    public AiProviderRouter(List<AiProvider> providers, AiRoutingProperties properties) {
+        for (AiProvider provider : providers) {
+            this.providers.put(provider.name(), provider);
+        }
+        this.properties = properties;
+    }
+
+    public boolean hasEnabledProvider() {
+        return providers.values().stream().anyMatch(AiProvider::isEnabled);
+    }
+
+    public boolean isRegistered(String name) {
+        return name != null && providers.containsKey(name.trim().toLowerCase());
+    }
+
+    public AiProvider route(CodeSubmission submission) {
+        if (submission.aiProvider() != null) {
+            AiProvider requested = enabled(submission.aiProvider());
+            if (requested != null) {
+                return requested;
+            }
+            logger.warn("요청한 AI 제공자를 사용할 수 없어 기본 경로로 분석합니다. provider={}", submission.aiProvider());
+        }
+        if (properties.getLocalMaxSourceLength() > 0
+                && submission.sourceCode().length() <= properties.getLocalMaxSourceLength()) {
+            AiProvider local = enabled(LocalAiClient.NAME);
+            if (local != null) {
+                return local;
+            }
+        }
+        return enabled(properties.getDefaultProvider());
+    }
+
+    private AiProvider enabled(String name) {
+        AiProvider provider = providers.get(name.trim().toLowerCase());
+        return provider != null && provider.isEnabled() ? provider : null;
+    }
+}
@@ -0,0 +1,74 @@
+package com.validator.infrastructure.ai;
+
+import com.validator.domain.model.AiTier;
+import com.validator.domain.model.CodeSubmission;
+import com.validator.domain.model.Issue;
+import com.validator.infrastructure.config.AiTierProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+/**
+ * 정적 분석 결과, 소스 크기, 파일 경로로 AI 분석 등급을 고른다.
+ * 생략 경로는 분석하지 않고, 위험 신호가 있거나 크거나 민감한 경로는 정밀 모델로,
+ * 나머지는 빠른 모델로 보낸다.
+ */
+@Component
+public class AiTierSelector {
+
+    private final AiTierProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public AiTierSelector(AiTierProperties properties) {
+        this.properties = properties;
+    }
+
+    public AiTier select(CodeSubmission submission, List<Issue> staticIssues) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        String path = normalizePath(submission.filePath());
+        if (matchesAny(properties.getSkipPathPatterns(), path)) {
+            return AiTier.SKIP;
+        }
+        boolean risky = staticIssues.stream()
+                .anyMatch(issue -> issue.severity().isAtLeast(properties.getThoroughMinSeverity()));
+        if (risky
+                || submission.sourceCode().length() >= properties.getThoroughMinSourceLength()
+                || matchesAny(properties.getThoroughPathPatterns(), path)) {
+            return AiTier.THOROUGH;
+        }
+        return AiTier.FAST;
+    }
+
+    public AiTierProperties.Tier settings(AiTier tier) {
+        if (tier == AiTier.FAST) {
+            return properties.getFast();
+        }
+        if (tier == AiTier.THOROUGH) {
+            return properties.getThorough();
+        }
+        return null;
+    }
+
+    private boolean matchesAny(List<String> patterns, String path) {
+        for (String pattern : patterns) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String normalizePath(String filePath) {
+        if (filePath == null) {
+            return "";
+        }
+        String path = filePath.replace('\\', '/');
+        while (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        return path;
+    }
+}
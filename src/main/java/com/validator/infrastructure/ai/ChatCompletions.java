@@ -0,0 +1,31 @@
+package com.validator.infrastructure.ai;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.codec.ServerSentEvent;
+
+import java.util.List;
+import java.util.Map;
+
+final class ChatCompletions {
+
+    static final String PATH = "/v1/chat/completions";
+    static final String STREAM_DONE = "[DONE]";
+    static final ParameterizedTypeReference<ServerSentEvent<String>> SERVER_SENT_EVENT_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private ChatCompletions() {
+    }
+
+    static Map<String, Object> requestBody(String model, String prompt, boolean stream) {
+        return Map.of(
+                "model", model,
+                "messages", List.of(
+                        Map.of("role", "system", "content", "You are a secure code reviewer. Return JSON only."),
+                        Map.of("role", "user", "content", prompt)
+                ),
+                "temperature", 0.2,
+                "stream", stream
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package com.validator.infrastructure.ai;
+
+import com.validator.domain.model.Issue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record CompactedSource(
+        String source,
+        int[] originalLines,
+        int estimatedTokens,
+        boolean truncated
+) {
+
+    public Integer toOriginalLine(Integer line) {
+        if (line == null || line < 1 || line > originalLines.length) {
+            return null;
+        }
+        return originalLines[line - 1];
+    }
+
+    public Issue remap(Issue issue) {
+        return new Issue(issue.type(), issue.severity(), issue.message(), toOriginalLine(issue.line()), issue.source());
+    }
+
+    public List<Issue> remap(List<Issue> issues) {
+        List<Issue> remapped = new ArrayList<>(issues.size());
+        for (Issue issue : issues) {
+            remapped.add(remap(issue));
+        }
+        return remapped;
+    }
+}
@@ -0,0 +1,73 @@
+package com.validator.infrastructure.ai;
+
+import com.validator.domain.model.Issue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍으로 도착하는 content 조각을 누적하면서, 최상위 JSON 배열의 원소 객체가 닫히는 즉시 Issue로 변환한다.
+ */
+public final class IncrementalIssueParser {
+
+    private final AiAnalysisResponseParser parser;
+    private final StringBuilder current = new StringBuilder();
+    private boolean arrayStarted;
+    private boolean arrayClosed;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+
+    IncrementalIssueParser(AiAnalysisResponseParser parser) {
+        this.parser = parser;
+    }
+
+    public List<Issue> feed(String delta) {
+        List<Issue> completed = new ArrayList<>();
+        for (int i = 0; i < delta.length() && !arrayClosed; i++) {
+            char c = delta.charAt(i);
+            if (!arrayStarted) {
+                arrayStarted = c == '[';
+                continue;
+            }
+            if (depth == 0) {
+                if (c == '{') {
+                    current.setLength(0);
+                    current.append(c);
+                    depth = 1;
+                } else if (c == ']') {
+                    arrayClosed = true;
+                }
+                continue;
+            }
+
+            current.append(c);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+                if (depth == 0) {
+                    Issue issue = parser.parseIssueObject(current.toString());
+                    if (issue != null) {
+                        completed.add(issue);
+                    }
+                }
+            }
+        }
+        return completed;
+    }
+
+    public boolean isComplete() {
+        return arrayClosed;
+    }
+}
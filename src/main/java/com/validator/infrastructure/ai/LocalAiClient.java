@@ -0,0 +1,90 @@
+package com.validator.infrastructure.ai;
+
+import com.validator.exception.AiServiceException;
+import com.validator.infrastructure.config.LocalAiProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@Component
+public class LocalAiClient implements AiProvider {
+
+    static final String NAME = "local";
+    private static final Logger logger = LoggerFactory.getLogger(LocalAiClient.class);
+
+    private final WebClient webClient;
+    private final LocalAiProperties properties;
+
+    public LocalAiClient(WebClient.Builder webClientBuilder, LocalAiProperties properties) {
+        this.webClient = webClientBuilder.clone()
+                .baseUrl(properties.getBaseUrl())
+                .build();
+        this.properties = properties;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String model() {
+        return properties.getModel();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public Mono<byte[]> analyzeCode(String model, String prompt) {
+        return Mono.defer(() -> {
+                    logger.info("로컬 모델 요청을 시작합니다. model={}, promptLength={}", model, prompt.length());
+                    return request(MediaType.APPLICATION_JSON)
+                            .bodyValue(ChatCompletions.requestBody(model, prompt, false))
+                            .retrieve()
+                            .bodyToMono(byte[].class);
+                })
+                .timeout(Duration.ofSeconds(properties.getTimeoutSeconds()))
+                .switchIfEmpty(Mono.error(() ->
+                        new AiServiceException("LOCAL_AI_EMPTY_RESPONSE", "로컬 모델 응답이 비어 있습니다.")))
+                .onErrorMap(ex -> !(ex instanceof AiServiceException), ex ->
+                        new AiServiceException("LOCAL_AI_FAILED", "로컬 모델 호출에 실패했습니다: " + ex.getMessage()));
+    }
+
+    @Override
+    public Flux<String> streamCode(String model, String prompt) {
+        return Flux.defer(() -> {
+                    logger.info("로컬 모델 스트리밍 요청을 시작합니다. model={}, promptLength={}", model, prompt.length());
+                    return request(MediaType.TEXT_EVENT_STREAM)
+                            .bodyValue(ChatCompletions.requestBody(model, prompt, true))
+                            .retrieve()
+                            .bodyToFlux(ChatCompletions.SERVER_SENT_EVENT_TYPE)
+                            .mapNotNull(ServerSentEvent::data)
+                            .takeWhile(data -> !ChatCompletions.STREAM_DONE.equals(data));
+                })
+                .timeout(Duration.ofSeconds(properties.getTimeoutSeconds()))
+                .onErrorMap(ex -> !(ex instanceof AiServiceException), ex ->
+                        new AiServiceException("LOCAL_AI_FAILED", "로컬 모델 호출에 실패했습니다: " + ex.getMessage()));
+    }
+
+    private WebClient.RequestBodySpec request(MediaType accept) {
+        WebClient.RequestBodySpec spec = webClient.post()
+                .uri(ChatCompletions.PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(accept);
+        if (properties.getApiKey() != null && !properties.getApiKey().isBlank()) {
+            spec.header(HttpHeaders.AUTHORIZATION, "Bearer " + properties.getApiKey());
+        }
+        return spec;
+    }
+}
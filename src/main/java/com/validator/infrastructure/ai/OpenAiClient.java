@@ -2,93 +2,200 @@ package com.validator.infrastructure.ai;
 
 import com.validator.exception.AiServiceException;
 import com.validator.infrastructure.config.OpenAiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
-import java.util.List;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Component
-public class OpenAiClient {
+public class OpenAiClient implements AiProvider {
 
+    static final String NAME = "openai";
     private static final Logger logger = LoggerFactory.getLogger(OpenAiClient.class);
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration INITIAL_BACKOFF = Duration.ofMillis(500);
 
     private final WebClient webClient;
     private final OpenAiProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary promptSize;
+    private final DistributionSummary responseSize;
+    private final Counter coalesced;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final AiCircuitBreaker circuitBreaker;
+    private final Map<String, Mono<byte[]>> inFlightCalls = new ConcurrentHashMap<>();
 
-    public OpenAiClient(WebClient webClient, OpenAiProperties properties) {
+    public OpenAiClient(WebClient webClient, OpenAiProperties properties, MeterRegistry meterRegistry) {
         this.webClient = webClient;
         this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.promptSize = DistributionSummary.builder("ai.openai.prompt.size")
+                .baseUnit("characters")
+                .register(meterRegistry);
+        this.responseSize = DistributionSummary.builder("ai.openai.response.size")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("ai.openai.coalesced")
+                .register(meterRegistry);
+        this.limiter = new AdaptiveConcurrencyLimiter(properties.getLimiter(), meterRegistry);
+        this.circuitBreaker = new AiCircuitBreaker(properties.getCircuitBreaker(), meterRegistry);
     }
 
-    public String analyzeCode(String prompt) {
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String model() {
+        return properties.getModel();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public Mono<byte[]> analyzeCode(String model, String prompt) {
         if (properties.getApiKey() == null || properties.getApiKey().isBlank()) {
-            throw new AiServiceException("OPENAI_KEY_MISSING", "OpenAI API 키가 설정되지 않았습니다.");
+            return Mono.error(new AiServiceException("OPENAI_KEY_MISSING", "OpenAI API 키가 설정되지 않았습니다."));
         }
 
-        logger.info("OpenAI 요청을 시작합니다. model={}, promptLength={}", properties.getModel(), prompt.length());
+        boolean[] created = new boolean[1];
+        Mono<byte[]> call = inFlightCalls.computeIfAbsent(model + "\n" + prompt, key -> {
+            created[0] = true;
+            return sharedCall(key, model, prompt);
+        });
+        if (!created[0]) {
+            coalesced.increment();
+            logger.info("동일한 프롬프트의 진행 중인 OpenAI 요청을 공유합니다.");
+        }
+        return call;
+    }
 
-        Map<String, Object> requestBody = Map.of(
-                "model", properties.getModel(),
-                "messages", List.of(
-                        Map.of("role", "system", "content", "You are a secure code reviewer. Return JSON only."),
-                        Map.of("role", "user", "content", prompt)
-                ),
-                "temperature", 0.2
-        );
+    private Mono<byte[]> sharedCall(String key, String model, String prompt) {
+        return circuitBreaker.protect(() -> {
+                    logger.info("OpenAI 요청을 시작합니다. model={}, promptLength={}", model, prompt.length());
+                    promptSize.record(prompt.length());
+                    return executeWithRetry(ChatCompletions.requestBody(model, prompt, false))
+                            .filter(this::hasContent)
+                            .switchIfEmpty(Mono.error(() ->
+                                    new AiServiceException("OPENAI_EMPTY_RESPONSE", "OpenAI 응답이 비어 있습니다.")));
+                })
+                .doOnNext(response -> {
+                    logger.info("OpenAI 응답을 수신했습니다. length={}", response.length);
+                    responseSize.record(response.length);
+                })
+                .doFinally(signal -> inFlightCalls.remove(key))
+                .share();
+    }
 
-        String response = executeWithRetry(requestBody, 3, 500);
-        if (response == null || response.isBlank()) {
-            throw new AiServiceException("OPENAI_EMPTY_RESPONSE", "OpenAI 응답이 비어 있습니다.");
+    @Override
+    public Flux<String> streamCode(String model, String prompt) {
+        if (properties.getApiKey() == null || properties.getApiKey().isBlank()) {
+            return Flux.error(new AiServiceException("OPENAI_KEY_MISSING", "OpenAI API 키가 설정되지 않았습니다."));
         }
-        logger.info("OpenAI 응답을 수신했습니다. length={}", response == null ? 0 : response.length());
-        return response;
+
+        logger.info("OpenAI 스트리밍 요청을 시작합니다. model={}, promptLength={}", model, prompt.length());
+        promptSize.record(prompt.length());
+
+        Map<String, Object> requestBody = ChatCompletions.requestBody(model, prompt, true);
+        return circuitBreaker.protectMany(() -> limiter.executeMany(() -> {
+                    long start = System.nanoTime();
+                    return webClient.post()
+                            .uri(ChatCompletions.PATH)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + properties.getApiKey())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .accept(MediaType.TEXT_EVENT_STREAM)
+                            .bodyValue(requestBody)
+                            .retrieve()
+                            .bodyToFlux(ChatCompletions.SERVER_SENT_EVENT_TYPE)
+                            .mapNotNull(ServerSentEvent::data)
+                            .takeWhile(data -> !ChatCompletions.STREAM_DONE.equals(data))
+                            .doOnComplete(() -> recordAttempt("stream", "200", start))
+                            .doOnError(ex -> recordAttempt("stream", statusOf(ex), start));
+                })
+                .retryWhen(retrySpec()));
     }
 
-    private String executeWithRetry(Map<String, Object> requestBody, int maxAttempts, long initialBackoffMs) {
-        long backoffMs = initialBackoffMs;
-        WebClientResponseException lastException = null;
-        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
-            try {
-                return webClient.post()
-                        .uri("/v1/chat/completions")
-                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + properties.getApiKey())
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .bodyValue(requestBody)
-                        .retrieve()
-                        .bodyToMono(String.class)
-                        .block();
-            } catch (WebClientResponseException ex) {
-                lastException = ex;
-                int status = ex.getStatusCode().value();
-                boolean retryable = status == HttpStatus.TOO_MANY_REQUESTS.value()
-                        || (status >= 500 && status < 600);
-                if (!retryable || attempt == maxAttempts) {
-                    throw ex;
-                }
-                logger.warn("OpenAI 요청이 실패했습니다. status={}, attempt={}/{}. 잠시 후 재시도합니다.",
-                        status, attempt, maxAttempts);
-                sleep(backoffMs);
-                backoffMs *= 2;
+    private Mono<byte[]> executeWithRetry(Map<String, Object> requestBody) {
+        return limiter.execute(() -> {
+                    long start = System.nanoTime();
+                    return webClient.post()
+                            .uri(ChatCompletions.PATH)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + properties.getApiKey())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(requestBody)
+                            .retrieve()
+                            .toEntity(byte[].class)
+                            .doOnNext(entity -> recordAttempt(
+                                    "blocking", String.valueOf(entity.getStatusCode().value()), start))
+                            .doOnError(ex -> recordAttempt("blocking", statusOf(ex), start))
+                            .mapNotNull(entity -> entity.getBody());
+                })
+                .retryWhen(retrySpec());
+    }
+
+    private boolean hasContent(byte[] response) {
+        for (byte b : response) {
+            if (!Character.isWhitespace(b)) {
+                return true;
             }
         }
-        if (lastException != null) {
-            throw lastException;
+        return false;
+    }
+
+    private void recordAttempt(String mode, String status, long start) {
+        Timer.builder("ai.openai.requests")
+                .tag("mode", mode)
+                .tag("status", status)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private String statusOf(Throwable throwable) {
+        if (throwable instanceof WebClientResponseException ex) {
+            return String.valueOf(ex.getStatusCode().value());
         }
-        return null;
+        return throwable.getClass().getSimpleName();
+    }
+
+    private Retry retrySpec() {
+        return Retry.backoff(MAX_ATTEMPTS - 1, INITIAL_BACKOFF)
+                .filter(this::isRetryable)
+                .doBeforeRetry(signal -> {
+                    String status = statusOf(signal.failure());
+                    meterRegistry.counter("ai.openai.retries", "status", status).increment();
+                    logger.warn("OpenAI 요청이 실패했습니다. status={}, attempt={}/{}. 잠시 후 재시도합니다.",
+                            status, signal.totalRetries() + 1, MAX_ATTEMPTS);
+                })
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
     }
 
-    private void sleep(long millis) {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException ex) {
-            Thread.currentThread().interrupt();
+    private boolean isRetryable(Throwable throwable) {
+        if (!(throwable instanceof WebClientResponseException ex)) {
+            return false;
         }
+        int status = ex.getStatusCode().value();
+        return status == HttpStatus.TOO_MANY_REQUESTS.value()
+                || (status >= 500 && status < 600);
     }
 }
@@ -0,0 +1,191 @@
+package com.validator.infrastructure.ai;
+
+import com.validator.domain.source.TokenEstimator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 프롬프트에 넣을 소스에서 주석, 라이선스 헤더, 빈 줄, 들여쓰기를 제거하고 import 문을 한 줄로 요약한다.
+ * 압축된 각 줄이 원본의 몇 번째 줄인지 기록하고, 토큰 예산을 넘는 뒷부분은 잘라낸다.
+ */
+final class PromptCompactor {
+
+    private static final Set<String> HASH_COMMENT_LANGUAGES = Set.of("PYTHON", "RUBY", "SHELL", "BASH", "YAML", "R");
+    static final Set<String> INDENT_SENSITIVE_LANGUAGES = Set.of("PYTHON", "YAML");
+
+    private final int tokenBudget;
+
+    PromptCompactor(int tokenBudget) {
+        this.tokenBudget = tokenBudget;
+    }
+
+    CompactedSource compact(String source, String language) {
+        String normalizedLanguage = language == null ? "" : language.trim().toUpperCase(Locale.ROOT);
+        Scanner scanner = new Scanner(
+                HASH_COMMENT_LANGUAGES.contains(normalizedLanguage),
+                INDENT_SENSITIVE_LANGUAGES.contains(normalizedLanguage));
+        scanner.scan(source);
+        return scanner.build(tokenBudget);
+    }
+
+    private static final class Scanner {
+
+        private final boolean hashComments;
+        private final boolean keepIndent;
+        private final List<String> lines = new ArrayList<>();
+        private final List<Integer> originalLines = new ArrayList<>();
+        private final List<String> imports = new ArrayList<>();
+        private final StringBuilder current = new StringBuilder();
+        private int importLine;
+        private int importIndex = -1;
+
+        private Scanner(boolean hashComments, boolean keepIndent) {
+            this.hashComments = hashComments;
+            this.keepIndent = keepIndent;
+        }
+
+        private void scan(String source) {
+            int line = 1;
+            int length = source.length();
+            int i = 0;
+            while (i < length) {
+                char c = source.charAt(i);
+                if (c == '\n') {
+                    endLine(line++);
+                    i++;
+                } else if (!hashComments && c == '/' && i + 1 < length && source.charAt(i + 1) == '/') {
+                    i = skipLineComment(source, i);
+                } else if (hashComments && c == '#') {
+                    i = skipLineComment(source, i);
+                } else if (!hashComments && c == '/' && i + 1 < length && source.charAt(i + 1) == '*') {
+                    int end = source.indexOf("*/", i + 2);
+                    end = end == -1 ? length : end + 2;
+                    for (int j = i; j < end; j++) {
+                        if (source.charAt(j) == '\n') {
+                            endLine(line++);
+                        }
+                    }
+                    i = end;
+                } else if (source.startsWith("\"\"\"", i) || source.startsWith("'''", i)) {
+                    int end = source.indexOf(source.substring(i, i + 3), i + 3);
+                    end = end == -1 ? length : end + 3;
+                    line = copyLiteral(source, i, end, line);
+                    i = end;
+                } else if (c == '"' || c == '\'' || c == '`') {
+                    int end = literalEnd(source, i, c);
+                    line = copyLiteral(source, i, end, line);
+                    i = end;
+                } else {
+                    current.append(c);
+                    i++;
+                }
+            }
+            endLine(line);
+        }
+
+        private int skipLineComment(String source, int start) {
+            int end = source.indexOf('\n', start);
+            return end == -1 ? source.length() : end;
+        }
+
+        private int literalEnd(String source, int start, char quote) {
+            for (int i = start + 1; i < source.length(); i++) {
+                char c = source.charAt(i);
+                if (c == '\\') {
+                    i++;
+                } else if (c == quote || (c == '\n' && quote != '`')) {
+                    return c == quote ? i + 1 : i;
+                }
+            }
+            return source.length();
+        }
+
+        private int copyLiteral(String source, int start, int end, int line) {
+            for (int i = start; i < end; i++) {
+                char c = source.charAt(i);
+                if (c == '\n') {
+                    endLine(line++);
+                } else {
+                    current.append(c);
+                }
+            }
+            return line;
+        }
+
+        private void endLine(int line) {
+            String text = current.toString();
+            current.setLength(0);
+            String trimmed = text.strip();
+            if (trimmed.isEmpty()) {
+                return;
+            }
+            if (isImport(trimmed)) {
+                if (importIndex == -1) {
+                    importIndex = lines.size();
+                    importLine = line;
+                }
+                imports.add(importTarget(trimmed));
+                return;
+            }
+            if (trimmed.startsWith("package ")) {
+                return;
+            }
+            emit(keepIndent ? text.stripTrailing() : trimmed, line);
+        }
+
+        private void emit(String text, int line) {
+            lines.add(text);
+            originalLines.add(line);
+        }
+
+        private boolean isImport(String line) {
+            return line.startsWith("import ")
+                    || line.startsWith("using ") && line.endsWith(";")
+                    || line.startsWith("#include")
+                    || line.startsWith("from ") && line.contains(" import ")
+                    || line.startsWith("require ");
+        }
+
+        private String importTarget(String line) {
+            String target = line.endsWith(";") ? line.substring(0, line.length() - 1) : line;
+            if (target.startsWith("import ")) {
+                target = target.substring("import ".length());
+            }
+            if (target.startsWith("static ")) {
+                target = target.substring("static ".length());
+            }
+            return target.strip();
+        }
+
+        private CompactedSource build(int tokenBudget) {
+            if (importIndex != -1) {
+                lines.add(importIndex, "// imports: " + String.join(", ", imports));
+                originalLines.add(importIndex, importLine);
+            }
+            StringBuilder compacted = new StringBuilder();
+            int tokens = 0;
+            int kept = 0;
+            for (String line : lines) {
+                int lineTokens = TokenEstimator.estimate(line) + 1;
+                if (tokens + lineTokens > tokenBudget && kept > 0) {
+                    break;
+                }
+                compacted.append(line).append('\n');
+                tokens += lineTokens;
+                kept++;
+            }
+            boolean truncated = kept < lines.size();
+            int[] mapping = new int[kept];
+            for (int i = 0; i < kept; i++) {
+                mapping[i] = originalLines.get(i);
+            }
+            if (truncated) {
+                compacted.append("// ... 토큰 예산 초과로 ").append(lines.size() - kept).append("줄 생략\n");
+            }
+            return new CompactedSource(compacted.toString(), mapping, tokens, truncated);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.validator.infrastructure.analyzer;
+
+import com.validator.domain.model.CodeSubmission;
+import com.validator.domain.model.Issue;
+import com.validator.domain.model.IssueSource;
+import com.validator.domain.source.SourceTokens;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 규칙 파일의 탐지 규칙을 한 번 컴파일해 둔 불변 묶음.
+ * 규칙의 리터럴은 공용 패턴 스캐너의 단일 순회에 합쳐지고, 정규식은 리터럴이 걸린 줄에서만 실행되므로
+ * 규칙을 늘려도 소스 전체를 다시 훑지 않는다. 언어별 규칙 목록은 컴파일 시점에 미리 나눠 둔다.
+ */
+final class DetectorPack {
+
+    static final DetectorPack EMPTY = new DetectorPack(0, Set.of(), List.of(), Map.of());
+
+    private final int ruleCount;
+    private final Set<String> literals;
+    private final List<Detector> common;
+    private final Map<String, List<Detector>> byLanguage;
+
+    private DetectorPack(
+            int ruleCount,
+            Set<String> literals,
+            List<Detector> common,
+            Map<String, List<Detector>> byLanguage
+    ) {
+        this.ruleCount = ruleCount;
+        this.literals = literals;
+        this.common = common;
+        this.byLanguage = byLanguage;
+    }
+
+    static DetectorPack compile(List<DetectorRule> rules, MeterRegistry meterRegistry) {
+        Set<String> literals = new LinkedHashSet<>();
+        List<Detector> common = new ArrayList<>();
+        Map<String, List<Detector>> languageOnly = new HashMap<>();
+        for (DetectorRule rule : rules) {
+            Detector detector = new Detector(
+                    rule,
+                    rule.regex() == null ? null : Pattern.compile(rule.regex()),
+                    meterRegistry.counter("static.rule.hits", "rule", rule.id()),
+                    Timer.builder("static.rule.evaluation").tag("rule", rule.id()).register(meterRegistry)
+            );
+            literals.addAll(rule.literals());
+            if (rule.languages() == null || rule.languages().isEmpty()) {
+                common.add(detector);
+                continue;
+            }
+            for (String language : rule.languages()) {
+                languageOnly.computeIfAbsent(normalize(language), key -> new ArrayList<>()).add(detector);
+            }
+        }
+        Map<String, List<Detector>> byLanguage = new HashMap<>();
+        languageOnly.forEach((language, detectors) -> {
+            List<Detector> merged = new ArrayList<>(common);
+            merged.addAll(detectors);
+            byLanguage.put(language, List.copyOf(merged));
+        });
+        return new DetectorPack(rules.size(), Set.copyOf(literals), List.copyOf(common), Map.copyOf(byLanguage));
+    }
+
+    Set<String> literals() {
+        return literals;
+    }
+
+    int size() {
+        return ruleCount;
+    }
+
+    List<Issue> evaluate(CodeSubmission submission, ScanResult scan) {
+        String language = submission.language() == null ? "" : normalize(submission.language());
+        List<Detector> detectors = byLanguage.getOrDefault(language, common);
+        List<Issue> issues = new ArrayList<>();
+        for (Detector detector : detectors) {
+            long start = System.nanoTime();
+            Integer line = detector.firstLine(submission.sourceCode(), scan);
+            detector.evaluation.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (line != null) {
+                detector.hits.increment();
+                issues.add(new Issue(
+                        detector.rule.type(),
+                        detector.rule.severity(),
+                        detector.rule.message(),
+                        line,
+                        IssueSource.STATIC_ANALYZER
+                ));
+            }
+        }
+        return issues;
+    }
+
+    private static String normalize(String language) {
+        return language.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private record Detector(DetectorRule rule, Pattern regex, Counter hits, Timer evaluation) {
+
+        Integer firstLine(String source, ScanResult scan) {
+            SourceTokens tokens = scan.tokens();
+            int bestOffset = Integer.MAX_VALUE;
+            Integer bestLine = null;
+            Set<Integer> checkedLines = regex == null ? Set.of() : new HashSet<>();
+            for (String literal : rule.literals()) {
+                if (!scan.isScanned(literal)) {
+                    continue;
+                }
+                for (PatternMatch match : scan.matches(literal)) {
+                    if (match.offset() >= bestOffset) {
+                        break;
+                    }
+                    int offset = regex == null
+                            ? literalOffset(match, tokens)
+                            : regexOffset(match, source, tokens, checkedLines);
+                    if (offset >= 0 && offset < bestOffset) {
+                        bestOffset = offset;
+                        bestLine = match.line();
+                        break;
+                    }
+                }
+            }
+            return bestLine;
+        }
+
+        private int literalOffset(PatternMatch match, SourceTokens tokens) {
+            return inRegion(match.offset(), tokens) ? match.offset() : -1;
+        }
+
+        private int regexOffset(PatternMatch match, String source, SourceTokens tokens, Set<Integer> checkedLines) {
+            int lineStart = source.lastIndexOf('\n', match.offset() - 1) + 1;
+            if (!checkedLines.add(lineStart)) {
+                return -1;
+            }
+            int lineEnd = source.indexOf('\n', match.offset());
+            Matcher matcher = regex.matcher(source)
+                    .region(lineStart, lineEnd < 0 ? source.length() : lineEnd)
+                    .useTransparentBounds(true);
+            while (matcher.find()) {
+                if (inRegion(matcher.start(), tokens)) {
+                    return matcher.start();
+                }
+            }
+            return -1;
+        }
+
+        private boolean inRegion(int offset, SourceTokens tokens) {
+            return rule.region() == null || tokens.regionAt(offset) == rule.region();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.validator.infrastructure.analyzer;
+
+import com.validator.domain.model.IssueSeverity;
+import com.validator.domain.model.IssueType;
+import com.validator.domain.source.SourceRegion;
+
+import java.util.List;
+
+public record DetectorRule(
+        String id,
+        List<String> languages,
+        IssueType type,
+        IssueSeverity severity,
+        String message,
+        SourceRegion region,
+        List<String> literals,
+        String regex
+) {
+}
@@ -0,0 +1,8 @@
+package com.validator.infrastructure.analyzer;
+
+public record PatternMatch(
+        String pattern,
+        int offset,
+        int line
+) {
+}
@@ -0,0 +1,211 @@
+package com.validator.infrastructure.analyzer;
+
+import com.validator.domain.source.SourceLexer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aho-Corasick 오토마톤으로 컴파일된 리터럴 패턴 스캐너.
+ * 등록된 패턴 수와 관계없이 소스를 한 번만 순회하며 모든 일치 위치(offset, line)를 보고한다.
+ */
+public final class PatternScanner {
+
+    private static final int ROOT = 0;
+    private static final int ASCII_LIMIT = 128;
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private final List<String> patterns;
+    private final Map<String, Integer> patternIds;
+    private final int[] lineBreaks;
+    private final int[] asciiClasses;
+    private final Map<Character, Integer> extendedClasses;
+    private final int alphabetSize;
+    private final int[] transitions;
+    private final int[][] outputs;
+
+    private PatternScanner(
+            List<String> patterns,
+            Map<String, Integer> patternIds,
+            int[] lineBreaks,
+            int[] asciiClasses,
+            Map<Character, Integer> extendedClasses,
+            int alphabetSize,
+            int[] transitions,
+            int[][] outputs
+    ) {
+        this.patterns = patterns;
+        this.patternIds = patternIds;
+        this.lineBreaks = lineBreaks;
+        this.asciiClasses = asciiClasses;
+        this.extendedClasses = extendedClasses;
+        this.alphabetSize = alphabetSize;
+        this.transitions = transitions;
+        this.outputs = outputs;
+    }
+
+    public static PatternScanner compile(Collection<String> rawPatterns) {
+        Map<String, Integer> patternIds = new LinkedHashMap<>();
+        for (String pattern : rawPatterns) {
+            if (pattern == null || pattern.isEmpty()) {
+                throw new IllegalArgumentException("빈 패턴은 등록할 수 없습니다.");
+            }
+            patternIds.putIfAbsent(pattern, patternIds.size());
+        }
+        List<String> patterns = List.copyOf(patternIds.keySet());
+
+        int[] asciiClasses = new int[ASCII_LIMIT];
+        Map<Character, Integer> extendedClasses = new HashMap<>();
+        int alphabetSize = 1;
+        for (String pattern : patterns) {
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                if (c < ASCII_LIMIT) {
+                    if (asciiClasses[c] == 0) {
+                        asciiClasses[c] = alphabetSize++;
+                    }
+                } else if (!extendedClasses.containsKey(c)) {
+                    extendedClasses.put(c, alphabetSize++);
+                }
+            }
+        }
+
+        List<int[]> children = new ArrayList<>();
+        List<List<Integer>> ownOutputs = new ArrayList<>();
+        children.add(newRow(alphabetSize));
+        ownOutputs.add(new ArrayList<>());
+        for (int id = 0; id < patterns.size(); id++) {
+            String pattern = patterns.get(id);
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                int charClass = classOf(pattern.charAt(i), asciiClasses, extendedClasses);
+                int next = children.get(state)[charClass];
+                if (next < 0) {
+                    next = children.size();
+                    children.get(state)[charClass] = next;
+                    children.add(newRow(alphabetSize));
+                    ownOutputs.add(new ArrayList<>());
+                }
+                state = next;
+            }
+            ownOutputs.get(state).add(id);
+        }
+
+        int stateCount = children.size();
+        int[] transitions = new int[stateCount * alphabetSize];
+        int[] fail = new int[stateCount];
+        int[][] outputs = new int[stateCount][];
+        outputs[ROOT] = NO_OUTPUT;
+
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int charClass = 0; charClass < alphabetSize; charClass++) {
+            int child = children.get(ROOT)[charClass];
+            if (child < 0) {
+                transitions[charClass] = ROOT;
+            } else {
+                transitions[charClass] = child;
+                fail[child] = ROOT;
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputs[state] = mergeOutputs(ownOutputs.get(state), outputs[fail[state]]);
+            for (int charClass = 0; charClass < alphabetSize; charClass++) {
+                int child = children.get(state)[charClass];
+                int fallback = transitions[fail[state] * alphabetSize + charClass];
+                if (child < 0) {
+                    transitions[state * alphabetSize + charClass] = fallback;
+                } else {
+                    transitions[state * alphabetSize + charClass] = child;
+                    fail[child] = fallback;
+                    queue.add(child);
+                }
+            }
+        }
+
+        int[] lineBreaks = new int[patterns.size()];
+        for (int id = 0; id < patterns.size(); id++) {
+            String pattern = patterns.get(id);
+            for (int i = 0; i < pattern.length() - 1; i++) {
+                if (pattern.charAt(i) == '\n') lineBreaks[id]++;
+            }
+        }
+
+        return new PatternScanner(
+                patterns,
+                Collections.unmodifiableMap(patternIds),
+                lineBreaks,
+                asciiClasses,
+                Map.copyOf(extendedClasses),
+                alphabetSize,
+                transitions,
+                outputs
+        );
+    }
+
+    public ScanResult scan(String source) {
+        return scan(source, null);
+    }
+
+    public ScanResult scan(String source, String language) {
+        @SuppressWarnings("unchecked")
+        List<PatternMatch>[] matches = (List<PatternMatch>[]) new List<?>[patterns.size()];
+        int state = ROOT;
+        int line = 1;
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            state = transitions[state * alphabetSize + classOf(c, asciiClasses, extendedClasses)];
+            for (int id : outputs[state]) {
+                String pattern = patterns.get(id);
+                if (matches[id] == null) {
+                    matches[id] = new ArrayList<>(2);
+                }
+                matches[id].add(new PatternMatch(pattern, i - pattern.length() + 1, line - lineBreaks[id]));
+            }
+            if (c == '\n') line++;
+        }
+        return new ScanResult(patternIds, matches, SourceLexer.tokenize(source, language));
+    }
+
+    public List<String> patterns() {
+        return patterns;
+    }
+
+    private static int classOf(char c, int[] asciiClasses, Map<Character, Integer> extendedClasses) {
+        if (c < ASCII_LIMIT) {
+            return asciiClasses[c];
+        }
+        if (extendedClasses.isEmpty()) {
+            return 0;
+        }
+        Integer charClass = extendedClasses.get(c);
+        return charClass == null ? 0 : charClass;
+    }
+
+    private static int[] newRow(int alphabetSize) {
+        int[] row = new int[alphabetSize];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    private static int[] mergeOutputs(List<Integer> own, int[] inherited) {
+        if (own.isEmpty()) {
+            return inherited;
+        }
+        int[] merged = new int[own.size() + inherited.length];
+        for (int i = 0; i < own.size(); i++) {
+            merged[i] = own.get(i);
+        }
+        System.arraycopy(inherited, 0, merged, own.size(), inherited.length);
+        return merged;
+    }
+}
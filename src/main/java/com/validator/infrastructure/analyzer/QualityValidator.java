@@ -5,65 +5,87 @@ import com.validator.domain.model.Issue;
 import com.validator.domain.model.IssueSeverity;
 import com.validator.domain.model.IssueSource;
 import com.validator.domain.model.IssueType;
+import com.validator.domain.source.SourceRegion;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @Component
 public class QualityValidator implements StaticAnalyzer {
 
+    private static final String PRINTLN = "System.out.println";
+    private static final String PRINT = "System.out.print";
+    private static final String TODO = "TODO";
+    private static final String CATCH_EXCEPTION = "catch (Exception";
+    private static final String LOGGER_CALL = "log.";
+    private static final String PRINT_STACK_TRACE = "printStackTrace()";
+    private static final Set<String> PATTERNS = Set.of(
+            PRINTLN,
+            PRINT,
+            TODO,
+            CATCH_EXCEPTION,
+            LOGGER_CALL,
+            PRINT_STACK_TRACE
+    );
+
+    @Override
+    public Set<String> patterns() {
+        return PATTERNS;
+    }
+
     @Override
-    public List<Issue> analyze(CodeSubmission submission) {
+    public List<Issue> analyze(CodeSubmission submission, ScanResult scan) {
         List<Issue> issues = new ArrayList<>();
-        String code = submission.sourceCode();
 
-        if (code.contains("System.out.println")) {
+        if (scan.contains(PRINTLN, SourceRegion.CODE)) {
             issues.add(new Issue(
                     IssueType.QUALITY,
                     IssueSeverity.LOW,
                     "System.out.println 사용은 로깅 프레임워크로 교체하세요.",
-                    null,
+                    scan.firstLine(PRINTLN, SourceRegion.CODE),
                     IssueSource.STATIC_ANALYZER
             ));
         }
 
-        if (code.contains("System.out.print")) {
+        if (scan.contains(PRINT, SourceRegion.CODE)) {
             issues.add(new Issue(
                     IssueType.QUALITY,
                     IssueSeverity.LOW,
                     "System.out.print 사용은 로깅 프레임워크로 교체하세요.",
-                    null,
+                    scan.firstLine(PRINT, SourceRegion.CODE),
                     IssueSource.STATIC_ANALYZER
             ));
         }
 
-        if (code.contains("TODO")) {
+        if (scan.contains(TODO, SourceRegion.COMMENT)) {
             issues.add(new Issue(
                     IssueType.QUALITY,
                     IssueSeverity.MEDIUM,
                     "TODO 주석이 남아 있습니다.",
-                    null,
+                    scan.firstLine(TODO, SourceRegion.COMMENT),
                     IssueSource.STATIC_ANALYZER
             ));
         }
 
-        if (code.contains("catch (Exception") && !code.contains("log.")) {
+        if (scan.contains(CATCH_EXCEPTION, SourceRegion.CODE)
+                && !scan.contains(LOGGER_CALL, SourceRegion.CODE)) {
             issues.add(new Issue(
                     IssueType.QUALITY,
                     IssueSeverity.MEDIUM,
                     "예외 처리 시 로깅이나 상세 처리가 필요합니다.",
-                    null,
+                    scan.firstLine(CATCH_EXCEPTION, SourceRegion.CODE),
                     IssueSource.STATIC_ANALYZER
             ));
         }
 
-        if (code.contains("printStackTrace()")) {
+        if (scan.contains(PRINT_STACK_TRACE, SourceRegion.CODE)) {
             issues.add(new Issue(
                     IssueType.QUALITY,
                     IssueSeverity.MEDIUM,
                     "printStackTrace 사용은 로그로 대체하세요.",
-                    null,
+                    scan.firstLine(PRINT_STACK_TRACE, SourceRegion.CODE),
                     IssueSource.STATIC_ANALYZER
             ));
         }
@@ -0,0 +1,38 @@
+package com.validator.infrastructure.analyzer;
+
+import com.validator.domain.model.CodeSubmission;
+import com.validator.domain.model.Issue;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+@Component
+public class RulePackValidator implements StaticAnalyzer {
+
+    private final MeterRegistry meterRegistry;
+    private volatile DetectorPack pack = DetectorPack.EMPTY;
+
+    public RulePackValidator(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void replaceDetectors(List<DetectorRule> detectors) {
+        this.pack = DetectorPack.compile(detectors, meterRegistry);
+    }
+
+    public int detectorCount() {
+        return pack.size();
+    }
+
+    @Override
+    public Set<String> patterns() {
+        return pack.literals();
+    }
+
+    @Override
+    public List<Issue> analyze(CodeSubmission submission, ScanResult scan) {
+        return pack.evaluate(submission, scan);
+    }
+}
@@ -0,0 +1,78 @@
+package com.validator.infrastructure.analyzer;
+
+import com.validator.domain.source.SourceRegion;
+import com.validator.domain.source.SourceTokens;
+
+import java.util.List;
+import java.util.Map;
+
+public final class ScanResult {
+
+    private final Map<String, Integer> patternIds;
+    private final List<PatternMatch>[] matches;
+    private final SourceTokens tokens;
+
+    ScanResult(Map<String, Integer> patternIds, List<PatternMatch>[] matches, SourceTokens tokens) {
+        this.patternIds = patternIds;
+        this.matches = matches;
+        this.tokens = tokens;
+    }
+
+    public SourceTokens tokens() {
+        return tokens;
+    }
+
+    public boolean isScanned(String pattern) {
+        return patternIds.containsKey(pattern);
+    }
+
+    public boolean contains(String pattern) {
+        return matches[idOf(pattern)] != null;
+    }
+
+    public List<PatternMatch> matches(String pattern) {
+        List<PatternMatch> found = matches[idOf(pattern)];
+        return found == null ? List.of() : found;
+    }
+
+    public Integer firstLine(String pattern) {
+        List<PatternMatch> found = matches[idOf(pattern)];
+        return found == null ? null : found.get(0).line();
+    }
+
+    public boolean contains(String pattern, SourceRegion region) {
+        return firstMatch(pattern, region) != null;
+    }
+
+    public List<PatternMatch> matches(String pattern, SourceRegion region) {
+        return matches(pattern).stream()
+                .filter(match -> tokens.regionAt(match.offset()) == region)
+                .toList();
+    }
+
+    public Integer firstLine(String pattern, SourceRegion region) {
+        PatternMatch match = firstMatch(pattern, region);
+        return match == null ? null : match.line();
+    }
+
+    private PatternMatch firstMatch(String pattern, SourceRegion region) {
+        List<PatternMatch> found = matches[idOf(pattern)];
+        if (found == null) {
+            return null;
+        }
+        for (PatternMatch match : found) {
+            if (tokens.regionAt(match.offset()) == region) {
+                return match;
+            }
+        }
+        return null;
+    }
+
+    private int idOf(String pattern) {
+        Integer id = patternIds.get(pattern);
+        if (id == null) {
+            throw new IllegalArgumentException("스캐너에 등록되지 않은 패턴입니다: " + pattern);
+        }
+        return id;
+    }
+}
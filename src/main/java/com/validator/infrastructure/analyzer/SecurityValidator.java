@@ -5,92 +5,96 @@ import com.validator.domain.model.Issue;
 import com.validator.domain.model.IssueSeverity;
 import com.validator.domain.model.IssueSource;
 import com.validator.domain.model.IssueType;
+import com.validator.domain.source.SourceRegion;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @Component
 public class SecurityValidator implements StaticAnalyzer {
 
+    private static final String RUNTIME_EXEC = "Runtime.getRuntime().exec";
+    private static final String PROCESS_BUILDER = "ProcessBuilder";
+    private static final String JAVAX_CRYPTO = "javax.crypto";
+    private static final String AES_ECB_DEFAULT = "Cipher.getInstance(\"AES\")";
+    private static final String MD5_DIGEST = "MessageDigest.getInstance(\"MD5\")";
+    private static final String SHA1_DIGEST = "MessageDigest.getInstance(\"SHA1\")";
+    private static final String PLAIN_HTTP = "http://";
+    private static final Set<String> PATTERNS = Set.of(
+            RUNTIME_EXEC,
+            PROCESS_BUILDER,
+            JAVAX_CRYPTO,
+            AES_ECB_DEFAULT,
+            MD5_DIGEST,
+            SHA1_DIGEST,
+            PLAIN_HTTP
+    );
+
+    @Override
+    public Set<String> patterns() {
+        return PATTERNS;
+    }
+
     @Override
-    public List<Issue> analyze(CodeSubmission submission) {
+    public List<Issue> analyze(CodeSubmission submission, ScanResult scan) {
         List<Issue> issues = new ArrayList<>();
-        String code = submission.sourceCode();
 
-        if (code.contains("Runtime.getRuntime().exec")) {
+        if (scan.contains(RUNTIME_EXEC, SourceRegion.CODE)) {
             issues.add(new Issue(
                     IssueType.SECURITY,
                     IssueSeverity.CRITICAL,
                     "Runtime.exec 사용은 명령 주입 위험이 있습니다.",
-                    null,
+                    scan.firstLine(RUNTIME_EXEC, SourceRegion.CODE),
                     IssueSource.STATIC_ANALYZER
             ));
         }
 
-        if (code.contains("ProcessBuilder")) {
+        if (scan.contains(PROCESS_BUILDER, SourceRegion.CODE)) {
             issues.add(new Issue(
                     IssueType.SECURITY,
                     IssueSeverity.HIGH,
                     "ProcessBuilder 사용 시 입력 검증이 필요합니다.",
-                    null,
+                    scan.firstLine(PROCESS_BUILDER, SourceRegion.CODE),
                     IssueSource.STATIC_ANALYZER
             ));
         }
 
-        if (code.contains("javax.crypto") && code.contains("Cipher.getInstance(\"AES\")")) {
+        if (scan.contains(JAVAX_CRYPTO, SourceRegion.CODE)
+                && scan.contains(AES_ECB_DEFAULT, SourceRegion.CODE)) {
             issues.add(new Issue(
                     IssueType.SECURITY,
                     IssueSeverity.MEDIUM,
                     "암호화 모드/패딩 명시가 필요할 수 있습니다.",
-                    null,
+                    scan.firstLine(AES_ECB_DEFAULT, SourceRegion.CODE),
                     IssueSource.STATIC_ANALYZER
             ));
         }
 
-        if (code.contains("MessageDigest.getInstance(\"MD5\")") || code.contains("MessageDigest.getInstance(\"SHA1\")")) {
+        Integer weakHashLine = scan.contains(MD5_DIGEST, SourceRegion.CODE)
+                ? scan.firstLine(MD5_DIGEST, SourceRegion.CODE)
+                : scan.firstLine(SHA1_DIGEST, SourceRegion.CODE);
+        if (weakHashLine != null) {
             issues.add(new Issue(
                     IssueType.SECURITY,
                     IssueSeverity.MEDIUM,
                     "취약한 해시 알고리즘 사용이 감지되었습니다.",
-                    null,
+                    weakHashLine,
                     IssueSource.STATIC_ANALYZER
             ));
         }
 
-        if (code.contains("http://")) {
+        if (scan.contains(PLAIN_HTTP, SourceRegion.STRING)) {
             issues.add(new Issue(
                     IssueType.SECURITY,
                     IssueSeverity.LOW,
                     "HTTP 사용은 평문 전송 위험이 있습니다.",
-                    null,
+                    scan.firstLine(PLAIN_HTTP, SourceRegion.STRING),
                     IssueSource.STATIC_ANALYZER
             ));
         }
 
-        List<String> secretPatterns = List.of(
-                "password=\"",
-                "password = \"",
-                "apiKey=\"",
-                "apiKey = \"",
-                "secret=\"",
-                "secret = \"",
-                "token=\"",
-                "token = \""
-        );
-        for (String pattern : secretPatterns) {
-            if (code.contains(pattern)) {
-                issues.add(new Issue(
-                        IssueType.SECURITY,
-                        IssueSeverity.HIGH,
-                        "하드코딩된 시크릿이 의심됩니다.",
-                        null,
-                        IssueSource.STATIC_ANALYZER
-                ));
-                break;
-            }
-        }
-
         return issues;
     }
 }
@@ -4,7 +4,13 @@ import com.validator.domain.model.CodeSubmission;
 import com.validator.domain.model.Issue;
 
 import java.util.List;
+import java.util.Set;
 
 public interface StaticAnalyzer {
-    List<Issue> analyze(CodeSubmission submission);
+
+    default Set<String> patterns() {
+        return Set.of();
+    }
+
+    List<Issue> analyze(CodeSubmission submission, ScanResult scan);
 }
@@ -5,24 +5,44 @@ import com.validator.domain.model.Issue;
 import com.validator.domain.model.IssueSeverity;
 import com.validator.domain.model.IssueSource;
 import com.validator.domain.model.IssueType;
+import com.validator.domain.source.SourceRegion;
+import com.validator.domain.source.SourceTokens;
+import com.validator.domain.source.TokenKind;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @Component
 public class SyntaxValidator implements StaticAnalyzer {
 
+    private static final String CLASS_KEYWORD = "class ";
+    private static final Set<String> PATTERNS = Set.of(CLASS_KEYWORD);
+
+    @Override
+    public Set<String> patterns() {
+        return PATTERNS;
+    }
+
     @Override
-    public List<Issue> analyze(CodeSubmission submission) {
+    public List<Issue> analyze(CodeSubmission submission, ScanResult scan) {
         List<Issue> issues = new ArrayList<>();
-        String code = submission.sourceCode();
+        SourceTokens tokens = scan.tokens();
 
         int openBraces = 0;
-        for (char c : code.toCharArray()) {
+        int openParentheses = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            if (tokens.kind(i) != TokenKind.SYMBOL) {
+                continue;
+            }
+            char c = tokens.symbol(i);
             if (c == '{') openBraces++;
-            if (c == '}') openBraces--;
+            else if (c == '}') openBraces--;
+            else if (c == '(') openParentheses++;
+            else if (c == ')') openParentheses--;
         }
+
         if (openBraces != 0) {
             issues.add(new Issue(
                     IssueType.SYNTAX,
@@ -33,11 +53,6 @@ public class SyntaxValidator implements StaticAnalyzer {
             ));
         }
 
-        int openParentheses = 0;
-        for (char c : code.toCharArray()) {
-            if (c == '(') openParentheses++;
-            if (c == ')') openParentheses--;
-        }
         if (openParentheses != 0) {
             issues.add(new Issue(
                     IssueType.SYNTAX,
@@ -48,7 +63,7 @@ public class SyntaxValidator implements StaticAnalyzer {
             ));
         }
 
-        if (!code.contains("class ")) {
+        if (!scan.contains(CLASS_KEYWORD, SourceRegion.CODE)) {
             issues.add(new Issue(
                     IssueType.SYNTAX,
                     IssueSeverity.MEDIUM,
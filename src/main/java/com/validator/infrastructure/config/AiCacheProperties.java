@@ -0,0 +1,71 @@
+package com.validator.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "ai.cache")
+public class AiCacheProperties {
+
+    private boolean enabled = true;
+    private int maxEntries = 1000;
+    private int ttlMinutes = 60;
+    private boolean diskEnabled;
+    private String diskDirectory = ".ai-cache";
+    private int diskMaxEntries = 10000;
+    private int diskSweepIntervalMinutes = 10;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public int getTtlMinutes() {
+        return ttlMinutes;
+    }
+
+    public void setTtlMinutes(int ttlMinutes) {
+        this.ttlMinutes = ttlMinutes;
+    }
+
+    public boolean isDiskEnabled() {
+        return diskEnabled;
+    }
+
+    public void setDiskEnabled(boolean diskEnabled) {
+        this.diskEnabled = diskEnabled;
+    }
+
+    public String getDiskDirectory() {
+        return diskDirectory;
+    }
+
+    public void setDiskDirectory(String diskDirectory) {
+        this.diskDirectory = diskDirectory;
+    }
+
+    public int getDiskMaxEntries() {
+        return diskMaxEntries;
+    }
+
+    public void setDiskMaxEntries(int diskMaxEntries) {
+        this.diskMaxEntries = diskMaxEntries;
+    }
+
+    public int getDiskSweepIntervalMinutes() {
+        return diskSweepIntervalMinutes;
+    }
+
+    public void setDiskSweepIntervalMinutes(int diskSweepIntervalMinutes) {
+        this.diskSweepIntervalMinutes = diskSweepIntervalMinutes;
+    }
+}
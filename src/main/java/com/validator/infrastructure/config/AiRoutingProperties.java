@@ -0,0 +1,26 @@
+package com.validator.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "ai.routing")
+public class AiRoutingProperties {
+
+    private String defaultProvider = "openai";
+    private int localMaxSourceLength;
+
+    public String getDefaultProvider() {
+        return defaultProvider;
+    }
+
+    public void setDefaultProvider(String defaultProvider) {
+        this.defaultProvider = defaultProvider;
+    }
+
+    public int getLocalMaxSourceLength() {
+        return localMaxSourceLength;
+    }
+
+    public void setLocalMaxSourceLength(int localMaxSourceLength) {
+        this.localMaxSourceLength = localMaxSourceLength;
+    }
+}
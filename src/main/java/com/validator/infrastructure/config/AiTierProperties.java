@@ -0,0 +1,105 @@
+package com.validator.infrastructure.config;
+
+import com.validator.domain.model.IssueSeverity;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "ai.tiers")
+public class AiTierProperties {
+
+    private boolean enabled = true;
+    private List<String> skipPathPatterns = new ArrayList<>(List.of("**/generated/**"));
+    private List<String> thoroughPathPatterns = new ArrayList<>(List.of("**/security/**", "**/auth/**"));
+    private IssueSeverity thoroughMinSeverity = IssueSeverity.MEDIUM;
+    private int thoroughMinSourceLength = 8000;
+    private final Tier fast = new Tier(10, 4000);
+    private final Tier thorough = new Tier(60, 12000);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getSkipPathPatterns() {
+        return skipPathPatterns;
+    }
+
+    public void setSkipPathPatterns(List<String> skipPathPatterns) {
+        this.skipPathPatterns = skipPathPatterns;
+    }
+
+    public List<String> getThoroughPathPatterns() {
+        return thoroughPathPatterns;
+    }
+
+    public void setThoroughPathPatterns(List<String> thoroughPathPatterns) {
+        this.thoroughPathPatterns = thoroughPathPatterns;
+    }
+
+    public IssueSeverity getThoroughMinSeverity() {
+        return thoroughMinSeverity;
+    }
+
+    public void setThoroughMinSeverity(IssueSeverity thoroughMinSeverity) {
+        this.thoroughMinSeverity = thoroughMinSeverity;
+    }
+
+    public int getThoroughMinSourceLength() {
+        return thoroughMinSourceLength;
+    }
+
+    public void setThoroughMinSourceLength(int thoroughMinSourceLength) {
+        this.thoroughMinSourceLength = thoroughMinSourceLength;
+    }
+
+    public Tier getFast() {
+        return fast;
+    }
+
+    public Tier getThorough() {
+        return thorough;
+    }
+
+    public static class Tier {
+
+        private Map<String, String> models = new HashMap<>();
+        private int timeoutSeconds;
+        private int promptTokenBudget;
+
+        Tier(int timeoutSeconds, int promptTokenBudget) {
+            this.timeoutSeconds = timeoutSeconds;
+            this.promptTokenBudget = promptTokenBudget;
+        }
+
+        public Map<String, String> getModels() {
+            return models;
+        }
+
+        public void setModels(Map<String, String> models) {
+            this.models = models;
+        }
+
+        public int getTimeoutSeconds() {
+            return timeoutSeconds;
+        }
+
+        public void setTimeoutSeconds(int timeoutSeconds) {
+            this.timeoutSeconds = timeoutSeconds;
+        }
+
+        public int getPromptTokenBudget() {
+            return promptTokenBudget;
+        }
+
+        public void setPromptTokenBudget(int promptTokenBudget) {
+            this.promptTokenBudget = promptTokenBudget;
+        }
+    }
+}
@@ -10,6 +10,12 @@ public class OpenAiProperties {
     private String apiKey;
     private String model;
     private int timeoutSeconds = 20;
+    private int batchTokenBudget = 6000;
+    private int batchMaxFiles = 8;
+    private int promptTokenBudget = 8000;
+    private Limiter limiter = new Limiter();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Connection connection = new Connection();
 
     public boolean isEnabled() {
         return enabled;
@@ -50,4 +56,280 @@ public class OpenAiProperties {
     public void setTimeoutSeconds(int timeoutSeconds) {
         this.timeoutSeconds = timeoutSeconds;
     }
+
+    public int getBatchTokenBudget() {
+        return batchTokenBudget;
+    }
+
+    public void setBatchTokenBudget(int batchTokenBudget) {
+        this.batchTokenBudget = batchTokenBudget;
+    }
+
+    public int getBatchMaxFiles() {
+        return batchMaxFiles;
+    }
+
+    public void setBatchMaxFiles(int batchMaxFiles) {
+        this.batchMaxFiles = batchMaxFiles;
+    }
+
+    public int getPromptTokenBudget() {
+        return promptTokenBudget;
+    }
+
+    public void setPromptTokenBudget(int promptTokenBudget) {
+        this.promptTokenBudget = promptTokenBudget;
+    }
+
+    public Limiter getLimiter() {
+        return limiter;
+    }
+
+    public void setLimiter(Limiter limiter) {
+        this.limiter = limiter;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    public void setConnection(Connection connection) {
+        this.connection = connection;
+    }
+
+    public static class Limiter {
+
+        private int initialLimit = 8;
+        private int minLimit = 1;
+        private int maxLimit = 64;
+        private int maxQueueSize = 200;
+        private long queueTimeoutMillis = 30000;
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public int getMaxQueueSize() {
+            return maxQueueSize;
+        }
+
+        public void setMaxQueueSize(int maxQueueSize) {
+            this.maxQueueSize = maxQueueSize;
+        }
+
+        public long getQueueTimeoutMillis() {
+            return queueTimeoutMillis;
+        }
+
+        public void setQueueTimeoutMillis(long queueTimeoutMillis) {
+            this.queueTimeoutMillis = queueTimeoutMillis;
+        }
+    }
+
+    public static class CircuitBreaker {
+
+        private boolean enabled = true;
+        private int windowSize = 50;
+        private int minimumCalls = 10;
+        private int failureRateThreshold = 50;
+        private long slowCallDurationMillis = 10000;
+        private int slowCallRateThreshold = 50;
+        private long openDurationMillis = 30000;
+        private int halfOpenProbes = 3;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getWindowSize() {
+            return windowSize;
+        }
+
+        public void setWindowSize(int windowSize) {
+            this.windowSize = windowSize;
+        }
+
+        public int getMinimumCalls() {
+            return minimumCalls;
+        }
+
+        public void setMinimumCalls(int minimumCalls) {
+            this.minimumCalls = minimumCalls;
+        }
+
+        public int getFailureRateThreshold() {
+            return failureRateThreshold;
+        }
+
+        public void setFailureRateThreshold(int failureRateThreshold) {
+            this.failureRateThreshold = failureRateThreshold;
+        }
+
+        public long getSlowCallDurationMillis() {
+            return slowCallDurationMillis;
+        }
+
+        public void setSlowCallDurationMillis(long slowCallDurationMillis) {
+            this.slowCallDurationMillis = slowCallDurationMillis;
+        }
+
+        public int getSlowCallRateThreshold() {
+            return slowCallRateThreshold;
+        }
+
+        public void setSlowCallRateThreshold(int slowCallRateThreshold) {
+            this.slowCallRateThreshold = slowCallRateThreshold;
+        }
+
+        public long getOpenDurationMillis() {
+            return openDurationMillis;
+        }
+
+        public void setOpenDurationMillis(long openDurationMillis) {
+            this.openDurationMillis = openDurationMillis;
+        }
+
+        public int getHalfOpenProbes() {
+            return halfOpenProbes;
+        }
+
+        public void setHalfOpenProbes(int halfOpenProbes) {
+            this.halfOpenProbes = halfOpenProbes;
+        }
+    }
+
+    public static class Connection {
+
+        private int maxConnections = 64;
+        private int pendingAcquireMaxCount = 256;
+        private long pendingAcquireTimeoutMillis = 5000;
+        private int connectTimeoutMillis = 5000;
+        private long maxIdleTimeSeconds = 30;
+        private long maxLifeTimeSeconds = 300;
+        private long evictionIntervalSeconds = 30;
+        private boolean keepAlive = true;
+        private boolean http2 = true;
+        private boolean compression = true;
+        private boolean metricsEnabled = true;
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getPendingAcquireMaxCount() {
+            return pendingAcquireMaxCount;
+        }
+
+        public void setPendingAcquireMaxCount(int pendingAcquireMaxCount) {
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        }
+
+        public long getPendingAcquireTimeoutMillis() {
+            return pendingAcquireTimeoutMillis;
+        }
+
+        public void setPendingAcquireTimeoutMillis(long pendingAcquireTimeoutMillis) {
+            this.pendingAcquireTimeoutMillis = pendingAcquireTimeoutMillis;
+        }
+
+        public int getConnectTimeoutMillis() {
+            return connectTimeoutMillis;
+        }
+
+        public void setConnectTimeoutMillis(int connectTimeoutMillis) {
+            this.connectTimeoutMillis = connectTimeoutMillis;
+        }
+
+        public long getMaxIdleTimeSeconds() {
+            return maxIdleTimeSeconds;
+        }
+
+        public void setMaxIdleTimeSeconds(long maxIdleTimeSeconds) {
+            this.maxIdleTimeSeconds = maxIdleTimeSeconds;
+        }
+
+        public long getMaxLifeTimeSeconds() {
+            return maxLifeTimeSeconds;
+        }
+
+        public void setMaxLifeTimeSeconds(long maxLifeTimeSeconds) {
+            this.maxLifeTimeSeconds = maxLifeTimeSeconds;
+        }
+
+        public long getEvictionIntervalSeconds() {
+            return evictionIntervalSeconds;
+        }
+
+        public void setEvictionIntervalSeconds(long evictionIntervalSeconds) {
+            this.evictionIntervalSeconds = evictionIntervalSeconds;
+        }
+
+        public boolean isKeepAlive() {
+            return keepAlive;
+        }
+
+        public void setKeepAlive(boolean keepAlive) {
+            this.keepAlive = keepAlive;
+        }
+
+        public boolean isHttp2() {
+            return http2;
+        }
+
+        public void setHttp2(boolean http2) {
+            this.http2 = http2;
+        }
+
+        public boolean isCompression() {
+            return compression;
+        }
+
+        public void setCompression(boolean compression) {
+            this.compression = compression;
+        }
+
+        public boolean isMetricsEnabled() {
+            return metricsEnabled;
+        }
+
+        public void setMetricsEnabled(boolean metricsEnabled) {
+            this.metricsEnabled = metricsEnabled;
+        }
+    }
 }
@@ -0,0 +1,26 @@
+package com.validator.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "policy")
+public class PolicyProperties {
+
+    private String rulesLocation = "classpath:validation-rules.json";
+    private boolean watch = true;
+
+    public String getRulesLocation() {
+        return rulesLocation;
+    }
+
+    public void setRulesLocation(String rulesLocation) {
+        this.rulesLocation = rulesLocation;
+    }
+
+    public boolean isWatch() {
+        return watch;
+    }
+
+    public void setWatch(boolean watch) {
+        this.watch = watch;
+    }
+}
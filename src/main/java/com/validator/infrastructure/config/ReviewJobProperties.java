@@ -0,0 +1,101 @@
+package com.validator.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "review.jobs")
+public class ReviewJobProperties {
+
+    private int workers = 4;
+    private int maxQueued = 1000;
+    private long retryAfterSeconds = 10;
+    private String storeDirectory = ".review-jobs";
+    private int retentionMinutes = 1440;
+    private int maxCachedJobs = 1000;
+    private int sweepIntervalMinutes = 10;
+    private int callbackTimeoutSeconds = 10;
+    private int shutdownTimeoutSeconds = 30;
+    private List<String> callbackAllowedHosts = new ArrayList<>();
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+
+    public void setMaxQueued(int maxQueued) {
+        this.maxQueued = maxQueued;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public void setRetryAfterSeconds(long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public String getStoreDirectory() {
+        return storeDirectory;
+    }
+
+    public void setStoreDirectory(String storeDirectory) {
+        this.storeDirectory = storeDirectory;
+    }
+
+    public int getRetentionMinutes() {
+        return retentionMinutes;
+    }
+
+    public void setRetentionMinutes(int retentionMinutes) {
+        this.retentionMinutes = retentionMinutes;
+    }
+
+    public int getMaxCachedJobs() {
+        return maxCachedJobs;
+    }
+
+    public void setMaxCachedJobs(int maxCachedJobs) {
+        this.maxCachedJobs = maxCachedJobs;
+    }
+
+    public int getSweepIntervalMinutes() {
+        return sweepIntervalMinutes;
+    }
+
+    public void setSweepIntervalMinutes(int sweepIntervalMinutes) {
+        this.sweepIntervalMinutes = sweepIntervalMinutes;
+    }
+
+    public int getCallbackTimeoutSeconds() {
+        return callbackTimeoutSeconds;
+    }
+
+    public void setCallbackTimeoutSeconds(int callbackTimeoutSeconds) {
+        this.callbackTimeoutSeconds = callbackTimeoutSeconds;
+    }
+
+    public int getShutdownTimeoutSeconds() {
+        return shutdownTimeoutSeconds;
+    }
+
+    public void setShutdownTimeoutSeconds(int shutdownTimeoutSeconds) {
+        this.shutdownTimeoutSeconds = shutdownTimeoutSeconds;
+    }
+
+    public List<String> getCallbackAllowedHosts() {
+        return callbackAllowedHosts;
+    }
+
+    public void setCallbackAllowedHosts(List<String> callbackAllowedHosts) {
+        this.callbackAllowedHosts = callbackAllowedHosts;
+    }
+}
@@ -0,0 +1,330 @@
+package com.validator.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "review")
+public class ReviewProperties {
+
+    private int staticTimeoutMillis = 2000;
+    private int aiTimeoutSeconds = 60;
+    private int maxBatchFiles = 200;
+    private int batchConcurrency = 4;
+    private int maxSourceLength = 512000;
+    private Chunking chunking = new Chunking();
+    private Incremental incremental = new Incremental();
+    private ShortCircuit shortCircuit = new ShortCircuit();
+    private Merge merge = new Merge();
+    private Admission admission = new Admission();
+
+    public int getStaticTimeoutMillis() {
+        return staticTimeoutMillis;
+    }
+
+    public void setStaticTimeoutMillis(int staticTimeoutMillis) {
+        this.staticTimeoutMillis = staticTimeoutMillis;
+    }
+
+    public int getAiTimeoutSeconds() {
+        return aiTimeoutSeconds;
+    }
+
+    public void setAiTimeoutSeconds(int aiTimeoutSeconds) {
+        this.aiTimeoutSeconds = aiTimeoutSeconds;
+    }
+
+    public int getMaxBatchFiles() {
+        return maxBatchFiles;
+    }
+
+    public void setMaxBatchFiles(int maxBatchFiles) {
+        this.maxBatchFiles = maxBatchFiles;
+    }
+
+    public int getBatchConcurrency() {
+        return batchConcurrency;
+    }
+
+    public void setBatchConcurrency(int batchConcurrency) {
+        this.batchConcurrency = batchConcurrency;
+    }
+
+    public int getMaxSourceLength() {
+        return maxSourceLength;
+    }
+
+    public void setMaxSourceLength(int maxSourceLength) {
+        this.maxSourceLength = maxSourceLength;
+    }
+
+    public Chunking getChunking() {
+        return chunking;
+    }
+
+    public void setChunking(Chunking chunking) {
+        this.chunking = chunking;
+    }
+
+    public Incremental getIncremental() {
+        return incremental;
+    }
+
+    public void setIncremental(Incremental incremental) {
+        this.incremental = incremental;
+    }
+
+    public ShortCircuit getShortCircuit() {
+        return shortCircuit;
+    }
+
+    public void setShortCircuit(ShortCircuit shortCircuit) {
+        this.shortCircuit = shortCircuit;
+    }
+
+    public Merge getMerge() {
+        return merge;
+    }
+
+    public void setMerge(Merge merge) {
+        this.merge = merge;
+    }
+
+    public Admission getAdmission() {
+        return admission;
+    }
+
+    public void setAdmission(Admission admission) {
+        this.admission = admission;
+    }
+
+    public static class Chunking {
+
+        private int chunkSize = 12000;
+        private int overlapLines = 20;
+        private int aiConcurrency = 4;
+        private int aiTokenBudget = 160000;
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getOverlapLines() {
+            return overlapLines;
+        }
+
+        public void setOverlapLines(int overlapLines) {
+            this.overlapLines = overlapLines;
+        }
+
+        public int getAiConcurrency() {
+            return aiConcurrency;
+        }
+
+        public void setAiConcurrency(int aiConcurrency) {
+            this.aiConcurrency = aiConcurrency;
+        }
+
+        public int getAiTokenBudget() {
+            return aiTokenBudget;
+        }
+
+        public void setAiTokenBudget(int aiTokenBudget) {
+            this.aiTokenBudget = aiTokenBudget;
+        }
+    }
+
+    public static class Incremental {
+
+        private int maxStoredResults = 200;
+        private long maxTotalSourceChars = 16_000_000;
+        private int maxStoredSourceChars = 256_000;
+        private int retentionMinutes = 60;
+        private int contextLines = 20;
+
+        public int getMaxStoredResults() {
+            return maxStoredResults;
+        }
+
+        public void setMaxStoredResults(int maxStoredResults) {
+            this.maxStoredResults = maxStoredResults;
+        }
+
+        public long getMaxTotalSourceChars() {
+            return maxTotalSourceChars;
+        }
+
+        public void setMaxTotalSourceChars(long maxTotalSourceChars) {
+            this.maxTotalSourceChars = maxTotalSourceChars;
+        }
+
+        public int getMaxStoredSourceChars() {
+            return maxStoredSourceChars;
+        }
+
+        public void setMaxStoredSourceChars(int maxStoredSourceChars) {
+            this.maxStoredSourceChars = maxStoredSourceChars;
+        }
+
+        public int getRetentionMinutes() {
+            return retentionMinutes;
+        }
+
+        public void setRetentionMinutes(int retentionMinutes) {
+            this.retentionMinutes = retentionMinutes;
+        }
+
+        public int getContextLines() {
+            return contextLines;
+        }
+
+        public void setContextLines(int contextLines) {
+            this.contextLines = contextLines;
+        }
+    }
+
+    public static class ShortCircuit {
+
+        private boolean skipAiWhenBlocked = true;
+        private int trivialMaxTokens;
+
+        public boolean isSkipAiWhenBlocked() {
+            return skipAiWhenBlocked;
+        }
+
+        public void setSkipAiWhenBlocked(boolean skipAiWhenBlocked) {
+            this.skipAiWhenBlocked = skipAiWhenBlocked;
+        }
+
+        public int getTrivialMaxTokens() {
+            return trivialMaxTokens;
+        }
+
+        public void setTrivialMaxTokens(int trivialMaxTokens) {
+            this.trivialMaxTokens = trivialMaxTokens;
+        }
+    }
+
+    public static class Merge {
+
+        private boolean enabled = true;
+        private double similarityThreshold = 0.5;
+        private int lineWindow = 1;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getSimilarityThreshold() {
+            return similarityThreshold;
+        }
+
+        public void setSimilarityThreshold(double similarityThreshold) {
+            this.similarityThreshold = similarityThreshold;
+        }
+
+        public int getLineWindow() {
+            return lineWindow;
+        }
+
+        public void setLineWindow(int lineWindow) {
+            this.lineWindow = lineWindow;
+        }
+    }
+
+    public static class Admission {
+
+        private boolean enabled = true;
+        private int maxConcurrent = 32;
+        private int batchMaxConcurrent = 24;
+        private long maxInFlightBytes = 33554432;
+        private int maxQueued = 16;
+        private long maxWaitMillis = 2000;
+        private long retryAfterSeconds = 5;
+        private long unknownContentLengthBytes = 65536;
+        private List<String> interactivePaths = new ArrayList<>(List.of(
+                "/api/v1/code/review", "/api/v1/code/review/reactive",
+                "/api/v1/code/review/stream", "/api/v1/code/review/incremental"));
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxConcurrent() {
+            return maxConcurrent;
+        }
+
+        public void setMaxConcurrent(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+
+        public int getBatchMaxConcurrent() {
+            return batchMaxConcurrent;
+        }
+
+        public void setBatchMaxConcurrent(int batchMaxConcurrent) {
+            this.batchMaxConcurrent = batchMaxConcurrent;
+        }
+
+        public long getMaxInFlightBytes() {
+            return maxInFlightBytes;
+        }
+
+        public void setMaxInFlightBytes(long maxInFlightBytes) {
+            this.maxInFlightBytes = maxInFlightBytes;
+        }
+
+        public int getMaxQueued() {
+            return maxQueued;
+        }
+
+        public void setMaxQueued(int maxQueued) {
+            this.maxQueued = maxQueued;
+        }
+
+        public long getMaxWaitMillis() {
+            return maxWaitMillis;
+        }
+
+        public void setMaxWaitMillis(long maxWaitMillis) {
+            this.maxWaitMillis = maxWaitMillis;
+        }
+
+        public long getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+
+        public void setRetryAfterSeconds(long retryAfterSeconds) {
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public long getUnknownContentLengthBytes() {
+            return unknownContentLengthBytes;
+        }
+
+        public void setUnknownContentLengthBytes(long unknownContentLengthBytes) {
+            this.unknownContentLengthBytes = unknownContentLengthBytes;
+        }
+
+        public List<String> getInteractivePaths() {
+            return interactivePaths;
+        }
+
+        public void setInteractivePaths(List<String> interactivePaths) {
+            this.interactivePaths = interactivePaths;
+        }
+    }
+}
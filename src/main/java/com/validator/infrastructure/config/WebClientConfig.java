@@ -1,20 +1,46 @@
 package com.validator.infrastructure.config;
 
+import io.netty.channel.ChannelOption;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
+import java.util.function.Function;
 
 @Configuration
 public class WebClientConfig {
 
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider openAiConnectionProvider(OpenAiProperties properties) {
+        OpenAiProperties.Connection connection = properties.getConnection();
+        return ConnectionProvider.builder("openai")
+                .maxConnections(connection.getMaxConnections())
+                .pendingAcquireMaxCount(connection.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(connection.getPendingAcquireTimeoutMillis()))
+                .maxIdleTime(Duration.ofSeconds(connection.getMaxIdleTimeSeconds()))
+                .maxLifeTime(Duration.ofSeconds(connection.getMaxLifeTimeSeconds()))
+                .evictInBackground(Duration.ofSeconds(connection.getEvictionIntervalSeconds()))
+                .metrics(connection.isMetricsEnabled())
+                .build();
+    }
+
     @Bean
-    public WebClient webClient(OpenAiProperties properties) {
-        HttpClient httpClient = HttpClient.create()
-                .responseTimeout(Duration.ofSeconds(properties.getTimeoutSeconds()));
+    public WebClient webClient(OpenAiProperties properties, ConnectionProvider openAiConnectionProvider) {
+        OpenAiProperties.Connection connection = properties.getConnection();
+        HttpClient httpClient = HttpClient.create(openAiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connection.getConnectTimeoutMillis())
+                .option(ChannelOption.SO_KEEPALIVE, connection.isKeepAlive())
+                .responseTimeout(Duration.ofSeconds(properties.getTimeoutSeconds()))
+                .compress(connection.isCompression())
+                .metrics(connection.isMetricsEnabled(), Function.identity());
+        if (connection.isHttp2() && properties.getBaseUrl() != null && properties.getBaseUrl().startsWith("https:")) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
 
         return WebClient.builder()
                 .baseUrl(properties.getBaseUrl())
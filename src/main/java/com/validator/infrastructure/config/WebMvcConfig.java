@@ -0,0 +1,23 @@
+package com.validator.infrastructure.config;
+
+import com.validator.api.ReviewAdmissionInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ReviewAdmissionInterceptor reviewAdmissionInterceptor;
+
+    public WebMvcConfig(ReviewAdmissionInterceptor reviewAdmissionInterceptor) {
+        this.reviewAdmissionInterceptor = reviewAdmissionInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(reviewAdmissionInterceptor)
+                .addPathPatterns("/api/v1/code/review", "/api/v1/code/review/**")
+                .excludePathPatterns("/api/v1/code/review/jobs", "/api/v1/code/review/jobs/**");
+    }
+}
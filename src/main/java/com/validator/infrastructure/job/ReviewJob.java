@@ -0,0 +1,49 @@
+package com.validator.infrastructure.job;
+
+import com.validator.domain.model.ReviewJobStatus;
+import com.validator.dto.request.CodeValidationRequest;
+import com.validator.dto.response.CodeValidationResponse;
+
+import java.time.Instant;
+
+public record ReviewJob(
+        String id,
+        int priority,
+        long sequence,
+        CodeValidationRequest request,
+        String callbackUrl,
+        ReviewJobStatus status,
+        Instant createdAt,
+        Instant completedAt,
+        CodeValidationResponse result,
+        String errorCode,
+        String errorMessage
+) {
+
+    public static ReviewJob queued(
+            String id,
+            int priority,
+            long sequence,
+            CodeValidationRequest request,
+            String callbackUrl,
+            Instant createdAt
+    ) {
+        return new ReviewJob(id, priority, sequence, request, callbackUrl, ReviewJobStatus.QUEUED, createdAt,
+                null, null, null, null);
+    }
+
+    public ReviewJob withStatus(ReviewJobStatus status) {
+        return new ReviewJob(id, priority, sequence, request, callbackUrl, status, createdAt,
+                completedAt, result, errorCode, errorMessage);
+    }
+
+    public ReviewJob completed(CodeValidationResponse result, Instant completedAt) {
+        return new ReviewJob(id, priority, sequence, null, callbackUrl, ReviewJobStatus.COMPLETED, createdAt,
+                completedAt, result, null, null);
+    }
+
+    public ReviewJob failed(String errorCode, String errorMessage, Instant completedAt) {
+        return new ReviewJob(id, priority, sequence, null, callbackUrl, ReviewJobStatus.FAILED, createdAt,
+                completedAt, null, errorCode, errorMessage);
+    }
+}
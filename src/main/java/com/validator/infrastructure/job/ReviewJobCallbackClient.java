@@ -0,0 +1,72 @@
+package com.validator.infrastructure.job;
+
+import com.validator.infrastructure.config.ReviewJobProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.util.retry.Retry;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Locale;
+
+@Component
+public class ReviewJobCallbackClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewJobCallbackClient.class);
+    private static final int MAX_RETRIES = 2;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+
+    private final WebClient webClient;
+    private final ReviewJobProperties properties;
+
+    public ReviewJobCallbackClient(WebClient.Builder webClientBuilder, ReviewJobProperties properties) {
+        this.webClient = webClientBuilder.build();
+        this.properties = properties;
+    }
+
+    public boolean isAllowed(String callbackUrl) {
+        String host;
+        try {
+            host = URI.create(callbackUrl).getHost();
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+        if (host == null) {
+            return false;
+        }
+        String normalized = host.toLowerCase(Locale.ROOT);
+        for (String allowed : properties.getCallbackAllowedHosts()) {
+            String candidate = allowed.trim().toLowerCase(Locale.ROOT);
+            boolean matches = candidate.startsWith("*.")
+                    ? normalized.endsWith(candidate.substring(1))
+                    : normalized.equals(candidate);
+            if (matches) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void notify(String jobId, String callbackUrl, Object payload) {
+        if (!isAllowed(callbackUrl)) {
+            logger.warn("허용되지 않은 호스트로의 콜백을 건너뜁니다. jobId={}", jobId);
+            return;
+        }
+        webClient.post()
+                .uri(URI.create(callbackUrl))
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(payload)
+                .retrieve()
+                .toBodilessEntity()
+                .timeout(Duration.ofSeconds(properties.getCallbackTimeoutSeconds()))
+                .retryWhen(Retry.backoff(MAX_RETRIES, INITIAL_BACKOFF))
+                .subscribe(
+                        response -> logger.info("리뷰 작업 완료 콜백을 전송했습니다. jobId={}, status={}",
+                                jobId, response.getStatusCode().value()),
+                        ex -> logger.warn("리뷰 작업 완료 콜백 전송에 실패했습니다. jobId={}", jobId, ex)
+                );
+    }
+}
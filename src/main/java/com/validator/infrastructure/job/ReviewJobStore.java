@@ -0,0 +1,86 @@
+package com.validator.infrastructure.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.validator.infrastructure.config.ReviewJobProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class ReviewJobStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewJobStore.class);
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+
+    public ReviewJobStore(ObjectMapper objectMapper, ReviewJobProperties properties) {
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(properties.getStoreDirectory());
+    }
+
+    public void save(ReviewJob job) {
+        Path file = pathOf(job.id());
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, job.id(), ".tmp");
+            objectMapper.writeValue(temp.toFile(), job);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new IllegalStateException("리뷰 작업을 저장하지 못했습니다: " + job.id(), ex);
+        }
+    }
+
+    public Optional<ReviewJob> load(String jobId) {
+        Path file = pathOf(jobId);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(file.toFile(), ReviewJob.class));
+        } catch (IOException ex) {
+            logger.warn("리뷰 작업 파일을 읽지 못했습니다. file={}", file, ex);
+            return Optional.empty();
+        }
+    }
+
+    public List<ReviewJob> loadAll() {
+        List<ReviewJob> jobs = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return jobs;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.json")) {
+            for (Path file : files) {
+                try {
+                    jobs.add(objectMapper.readValue(file.toFile(), ReviewJob.class));
+                } catch (IOException ex) {
+                    logger.warn("리뷰 작업 파일을 읽지 못해 건너뜁니다. file={}", file, ex);
+                }
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("리뷰 작업 저장소를 읽지 못했습니다: " + directory, ex);
+        }
+        return jobs;
+    }
+
+    public void delete(String jobId) {
+        try {
+            Files.deleteIfExists(pathOf(jobId));
+        } catch (IOException ex) {
+            logger.warn("리뷰 작업 파일을 삭제하지 못했습니다. jobId={}", jobId, ex);
+        }
+    }
+
+    private Path pathOf(String jobId) {
+        return directory.resolve(jobId + ".json");
+    }
+}
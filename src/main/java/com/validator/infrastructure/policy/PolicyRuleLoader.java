@@ -0,0 +1,115 @@
+package com.validator.infrastructure.policy;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.validator.domain.policy.PolicyRule;
+import com.validator.infrastructure.analyzer.DetectorRule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+@Component
+public class PolicyRuleLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(PolicyRuleLoader.class);
+    private static final String BUILT_IN_RULES = "classpath:validation-rules.json";
+    private static final String SECRET_DETECTOR = "HARDCODED_SECRET";
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public PolicyRuleLoader(ResourceLoader resourceLoader) {
+        this.resourceLoader = resourceLoader;
+    }
+
+    public Resource resolve(String location) {
+        return resourceLoader.getResource(location);
+    }
+
+    public List<PolicyRule> load(Resource resource) {
+        return loadRuleSet(resource).rules();
+    }
+
+    public RuleSet loadRuleSet(Resource resource) {
+        try (InputStream inputStream = resource.getInputStream()) {
+            return parse(inputStream);
+        } catch (IOException ex) {
+            throw new IllegalStateException("정책 규칙 파일을 읽을 수 없습니다: " + resource.getDescription(), ex);
+        }
+    }
+
+    RuleSet parse(InputStream inputStream) throws IOException {
+        RulesDocument document = objectMapper.readValue(inputStream, RulesDocument.class);
+        if (document.rules() == null || document.rules().isEmpty()) {
+            throw new IllegalStateException("정책 규칙이 비어 있습니다.");
+        }
+        Set<String> ids = new HashSet<>();
+        for (PolicyRule rule : document.rules()) {
+            if (rule.id() == null || rule.id().isBlank() || rule.name() == null
+                    || rule.type() == null || rule.minSeverity() == null || rule.action() == null) {
+                throw new IllegalStateException("정책 규칙에 필수 값이 없습니다: " + rule);
+            }
+            if (rule.minCount() < 1) {
+                throw new IllegalStateException("minCount는 1 이상이어야 합니다: " + rule.id());
+            }
+            if (!ids.add(rule.id())) {
+                throw new IllegalStateException("중복된 정책 규칙 id입니다: " + rule.id());
+            }
+        }
+        List<DetectorRule> detectors = new ArrayList<>();
+        if (document.detectors() == null) {
+            logger.warn("규칙 파일에 detectors 항목이 없어 기본 탐지 규칙을 사용합니다.");
+            detectors.addAll(builtInDetectors());
+        } else {
+            detectors.addAll(document.detectors());
+        }
+        Set<String> detectorIds = new HashSet<>();
+        for (DetectorRule detector : detectors) {
+            if (detector.id() == null || detector.id().isBlank() || detector.type() == null
+                    || detector.severity() == null || detector.message() == null
+                    || detector.literals() == null || detector.literals().isEmpty()
+                    || detector.literals().stream().anyMatch(literal -> literal == null || literal.isEmpty())) {
+                throw new IllegalStateException("탐지 규칙에 필수 값이 없습니다: " + detector);
+            }
+            if (!detectorIds.add(detector.id())) {
+                throw new IllegalStateException("중복된 탐지 규칙 id입니다: " + detector.id());
+            }
+            if (detector.regex() != null) {
+                try {
+                    Pattern.compile(detector.regex());
+                } catch (PatternSyntaxException ex) {
+                    throw new IllegalStateException("탐지 규칙의 정규식이 올바르지 않습니다: " + detector.id(), ex);
+                }
+            }
+        }
+        if (!detectorIds.contains(SECRET_DETECTOR)) {
+            logger.warn("규칙 파일에 {} 탐지 규칙이 없어 기본 규칙을 추가합니다.", SECRET_DETECTOR);
+            builtInDetectors().stream()
+                    .filter(detector -> SECRET_DETECTOR.equals(detector.id()))
+                    .forEach(detectors::add);
+        }
+        return new RuleSet(List.copyOf(document.rules()), List.copyOf(detectors));
+    }
+
+    private List<DetectorRule> builtInDetectors() throws IOException {
+        try (InputStream inputStream = resourceLoader.getResource(BUILT_IN_RULES).getInputStream()) {
+            RulesDocument document = objectMapper.readValue(inputStream, RulesDocument.class);
+            return document.detectors() == null ? List.of() : document.detectors();
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record RulesDocument(List<PolicyRule> rules, List<DetectorRule> detectors) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.validator.infrastructure.policy;
+
+import com.validator.domain.policy.PolicyEngine;
+import com.validator.infrastructure.analyzer.RulePackValidator;
+import com.validator.infrastructure.config.PolicyProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+@Component
+public class PolicyRuleWatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PolicyRuleWatcher.class);
+
+    private final PolicyEngine policyEngine;
+    private final RulePackValidator rulePackValidator;
+    private final PolicyRuleLoader loader;
+    private final PolicyProperties properties;
+    private WatchService watchService;
+    private Thread watchThread;
+
+    public PolicyRuleWatcher(
+            PolicyEngine policyEngine,
+            RulePackValidator rulePackValidator,
+            PolicyRuleLoader loader,
+            PolicyProperties properties
+    ) {
+        this.policyEngine = policyEngine;
+        this.rulePackValidator = rulePackValidator;
+        this.loader = loader;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        Resource resource = loader.resolve(properties.getRulesLocation());
+        RuleSet ruleSet = loader.loadRuleSet(resource);
+        apply(ruleSet);
+        logger.info("정책 규칙을 불러왔습니다. location={}, ruleCount={}, detectorCount={}",
+                properties.getRulesLocation(), ruleSet.rules().size(), ruleSet.detectors().size());
+
+        if (!properties.isWatch() || !resource.isFile()) {
+            return;
+        }
+        Path file = resource.getFile().toPath().toAbsolutePath();
+        watchService = FileSystems.getDefault().newWatchService();
+        file.getParent().register(
+                watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY
+        );
+        watchThread = new Thread(() -> watch(file), "policy-rule-watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+        logger.info("정책 규칙 파일 변경 감시를 시작합니다. file={}", file);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private void watch(Path file) {
+        Path fileName = file.getFileName();
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ClosedWatchServiceException ex) {
+                return;
+            }
+            boolean changed = false;
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context())) {
+                    changed = true;
+                }
+            }
+            key.reset();
+            if (changed) {
+                reload(file);
+            }
+        }
+    }
+
+    private void reload(Path file) {
+        try {
+            RuleSet ruleSet = loader.loadRuleSet(new FileSystemResource(file));
+            apply(ruleSet);
+            logger.info("정책 규칙을 다시 불러왔습니다. ruleCount={}, detectorCount={}",
+                    ruleSet.rules().size(), ruleSet.detectors().size());
+        } catch (Exception ex) {
+            logger.warn("정책 규칙을 다시 불러오지 못해 기존 규칙을 유지합니다. file={}", file, ex);
+        }
+    }
+
+    private void apply(RuleSet ruleSet) {
+        rulePackValidator.replaceDetectors(ruleSet.detectors());
+        policyEngine.replaceRules(ruleSet.rules());
+    }
+}
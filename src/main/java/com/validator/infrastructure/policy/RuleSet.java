@@ -0,0 +1,12 @@
+package com.validator.infrastructure.policy;
+
+import com.validator.domain.policy.PolicyRule;
+import com.validator.infrastructure.analyzer.DetectorRule;
+
+import java.util.List;
+
+public record RuleSet(
+        List<PolicyRule> rules,
+        List<DetectorRule> detectors
+) {
+}
@@ -0,0 +1,103 @@
+package com.validator.infrastructure.review;
+
+import com.validator.infrastructure.config.ReviewProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+public class ReviewResultStore {
+
+    private final ReviewProperties.Incremental properties;
+    private final Map<String, Entry> entries;
+    private long storedChars;
+
+    public ReviewResultStore(ReviewProperties reviewProperties, MeterRegistry meterRegistry) {
+        this.properties = reviewProperties.getIncremental();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                boolean evict = size() > properties.getMaxStoredResults();
+                if (evict) {
+                    storedChars -= eldest.getValue().review().source().length();
+                }
+                return evict;
+            }
+        };
+        Gauge.builder("review.result.store.size", this, ReviewResultStore::size)
+                .register(meterRegistry);
+        Gauge.builder("review.result.store.source.chars", this, ReviewResultStore::storedChars)
+                .register(meterRegistry);
+    }
+
+    public static String contentHash(String source) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", ex);
+        }
+    }
+
+    public String save(StoredReview review) {
+        String hash = contentHash(review.source());
+        if (properties.getMaxStoredResults() <= 0 || review.source().length() > properties.getMaxStoredSourceChars()) {
+            return hash;
+        }
+        long expiresAt = System.currentTimeMillis() + properties.getRetentionMinutes() * 60_000L;
+        synchronized (entries) {
+            Entry previous = entries.remove(hash);
+            if (previous != null) {
+                storedChars -= previous.review().source().length();
+            }
+            storedChars += review.source().length();
+            entries.put(hash, new Entry(review, expiresAt));
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (storedChars > properties.getMaxTotalSourceChars() && eldest.hasNext()) {
+                storedChars -= eldest.next().review().source().length();
+                eldest.remove();
+            }
+        }
+        return hash;
+    }
+
+    public Optional<StoredReview> find(String contentHash) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(contentHash);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (entry.expiresAt() <= now) {
+                entries.remove(contentHash);
+                storedChars -= entry.review().source().length();
+                return Optional.empty();
+            }
+            return Optional.of(entry.review());
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long storedChars() {
+        synchronized (entries) {
+            return storedChars;
+        }
+    }
+
+    private record Entry(StoredReview review, long expiresAt) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.validator.infrastructure.review;
+
+import com.validator.domain.model.AiAnalysisStatus;
+import com.validator.domain.model.Issue;
+
+import java.util.List;
+
+public record StoredReview(
+        String source,
+        String language,
+        List<Issue> staticIssues,
+        List<Issue> aiIssues,
+        AiAnalysisStatus aiStatus
+) {
+}
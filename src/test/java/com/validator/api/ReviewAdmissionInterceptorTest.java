@@ -0,0 +1,34 @@
+package com.validator.api;
+
+import com.validator.infrastructure.admission.AdmissionPriority;
+import com.validator.infrastructure.admission.ReviewAdmissionLimiter;
+import com.validator.infrastructure.config.ReviewProperties;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ReviewAdmissionInterceptorTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "/api/v1/code/review, INTERACTIVE",
+            "/api/v1/code/review/reactive, INTERACTIVE",
+            "/api/v1/code/review/stream, INTERACTIVE",
+            "/api/v1/code/review/incremental, INTERACTIVE",
+            "/api/v1/code/review/batch, BATCH"
+    })
+    void prioritizesSingleFileReviewsAheadOfBatch(String path, AdmissionPriority expected) {
+        ReviewAdmissionLimiter limiter = mock(ReviewAdmissionLimiter.class);
+        ReviewAdmissionInterceptor interceptor = new ReviewAdmissionInterceptor(limiter, new ReviewProperties());
+
+        interceptor.preHandle(new MockHttpServletRequest("POST", path), new MockHttpServletResponse(), new Object());
+
+        verify(limiter).acquire(anyLong(), eq(expected));
+    }
+}
@@ -1,18 +1,50 @@
 package com.validator.application;
 
+import com.validator.domain.model.AiAnalysisStatus;
+import com.validator.domain.model.CodeSubmission;
+import com.validator.domain.model.DecisionStatus;
+import com.validator.domain.model.Issue;
+import com.validator.domain.model.IssueSeverity;
+import com.validator.domain.model.IssueSource;
+import com.validator.domain.model.IssueType;
 import com.validator.domain.policy.PolicyEngine;
+import com.validator.dto.request.CodeBatchValidationRequest;
 import com.validator.dto.request.CodeValidationRequest;
+import com.validator.dto.request.IncrementalReviewRequest;
 import com.validator.exception.ValidationException;
+import com.validator.infrastructure.ai.AiAnalysisCache;
+import com.validator.infrastructure.ai.AiAnalysisResponseParser;
+import com.validator.infrastructure.ai.AiAnalysisResult;
 import com.validator.infrastructure.ai.AiAnalysisService;
+import com.validator.infrastructure.ai.AiProvider;
+import com.validator.infrastructure.ai.AiProviderRouter;
+import com.validator.infrastructure.ai.AiTierSelector;
+import com.validator.infrastructure.analyzer.RulePackValidator;
 import com.validator.infrastructure.analyzer.SecurityValidator;
-import com.validator.infrastructure.analyzer.StaticAnalyzer;
+import com.validator.infrastructure.config.AiCacheProperties;
+import com.validator.infrastructure.config.AiRoutingProperties;
+import com.validator.infrastructure.config.AiTierProperties;
+import com.validator.infrastructure.config.OpenAiProperties;
+import com.validator.infrastructure.config.ReviewProperties;
+import com.validator.infrastructure.policy.PolicyRuleLoader;
+import com.validator.infrastructure.review.ReviewResultStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.io.DefaultResourceLoader;
+import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class CodeValidationServiceTest {
@@ -21,12 +53,9 @@ class CodeValidationServiceTest {
     void throwsValidationExceptionWhenForbiddenPatternDetected() {
         AiAnalysisService aiAnalysisService = mock(AiAnalysisService.class);
         when(aiAnalysisService.analyze(org.mockito.ArgumentMatchers.any()))
-                .thenReturn(List.of());
+                .thenReturn(Mono.just(AiAnalysisResult.completed(List.of())));
 
-        List<StaticAnalyzer> analyzers = List.of(new SecurityValidator());
-        PolicyEngine policyEngine = new PolicyEngine();
-
-        CodeValidationService service = new CodeValidationService(analyzers, aiAnalysisService, policyEngine);
+        CodeValidationService service = newService(aiAnalysisService, new ReviewProperties(), new SimpleMeterRegistry());
 
         CodeValidationRequest request = new CodeValidationRequest(
                 "public class A { void run(){ Runtime.getRuntime().exec(\"rm\"); } }",
@@ -40,4 +69,231 @@ class CodeValidationServiceTest {
                 .satisfies(ex -> assertThat(((ValidationException) ex).getCode())
                         .isEqualTo("FORBIDDEN_PATTERN"));
     }
+
+    @Test
+    void rejectsProvidersThatAreNotRegistered() {
+        AiAnalysisService aiAnalysisService = mock(AiAnalysisService.class);
+        when(aiAnalysisService.isProviderRegistered("openai")).thenReturn(true);
+        CodeValidationService service = newService(aiAnalysisService, new ReviewProperties(), new SimpleMeterRegistry());
+
+        CodeValidationRequest request = new CodeValidationRequest("class A {}", "A.java", "test", "JAVA", "bedrock");
+
+        assertThatThrownBy(() -> service.review(request))
+                .isInstanceOf(ValidationException.class)
+                .extracting("code")
+                .isEqualTo("AI_PROVIDER_UNKNOWN");
+    }
+
+    @Test
+    void returnsStaticIssuesWhenAiStageExceedsDeadline() {
+        AiAnalysisService aiAnalysisService = mock(AiAnalysisService.class);
+        when(aiAnalysisService.analyze(org.mockito.ArgumentMatchers.any()))
+                .thenReturn(Mono.never());
+
+        ReviewProperties properties = new ReviewProperties();
+        properties.setAiTimeoutSeconds(1);
+        CodeValidationService service = newService(aiAnalysisService, properties, new SimpleMeterRegistry());
+
+        CodeValidationRequest request = new CodeValidationRequest(
+                "public class A { String url = \"http://example.com\"; }",
+                "A.java",
+                "test",
+                "JAVA"
+        );
+
+        var response = service.review(request);
+
+        assertThat(response.analysis().issues())
+                .extracting(issue -> issue.message())
+                .containsExactly("HTTP 사용은 평문 전송 위험이 있습니다.");
+        assertThat(response.aiStatus()).isEqualTo(AiAnalysisStatus.DEGRADED);
+    }
+
+    @Test
+    void aggregatesBatchDecisionFromWorstFile() {
+        AiAnalysisService aiAnalysisService = mock(AiAnalysisService.class);
+        when(aiAnalysisService.analyzeBatch(org.mockito.ArgumentMatchers.anyList(), org.mockito.ArgumentMatchers.anyInt()))
+                .thenReturn(Mono.just(List.of(AiAnalysisResult.completed(List.of()), AiAnalysisResult.completed(List.of()))));
+
+        CodeValidationService service = newService(aiAnalysisService, new ReviewProperties(), new SimpleMeterRegistry());
+
+        CodeBatchValidationRequest request = new CodeBatchValidationRequest(List.of(
+                new CodeValidationRequest("public class A { }", "A.java", null, "JAVA"),
+                new CodeValidationRequest("public class B { String password = \"x\"; }", "B.java", null, "JAVA")
+        ));
+
+        var response = service.reviewBatchAsync(request).block();
+
+        assertThat(response.files()).extracting(file -> file.result().decision().status())
+                .containsExactly(DecisionStatus.ALLOWED, DecisionStatus.BLOCKED);
+        assertThat(response.decision().status()).isEqualTo(DecisionStatus.BLOCKED);
+        assertThat(response.decision().reason()).startsWith("B.java: ");
+    }
+
+    @Test
+    void reviewsRemainingBatchFilesWhenOneIsRejectedAndPacksThemIntoOnePrompt() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AiProvider provider = mock(AiProvider.class);
+        when(provider.name()).thenReturn("openai");
+        when(provider.model()).thenReturn("gpt-4o-mini");
+        when(provider.isEnabled()).thenReturn(true);
+        String aiResponse = """
+                {"choices":[{"message":{"content":"[{\\"file\\":1,\\"type\\":\\"QUALITY\\",\\"severity\\":\\"LOW\\",\\"message\\":\\"C 이슈\\",\\"line\\":1},{\\"file\\":0,\\"type\\":\\"QUALITY\\",\\"severity\\":\\"LOW\\",\\"message\\":\\"A 이슈\\",\\"line\\":1}]"}}]}
+                """;
+        when(provider.analyzeCode(anyString(), anyString()))
+                .thenReturn(Mono.just(aiResponse.getBytes(StandardCharsets.UTF_8)));
+        AiAnalysisService aiAnalysisService = new AiAnalysisService(
+                new AiProviderRouter(List.of(provider), new AiRoutingProperties()),
+                new AiAnalysisResponseParser(meterRegistry),
+                new OpenAiProperties(),
+                new AiAnalysisCache(new AiCacheProperties(), meterRegistry),
+                new AiTierSelector(new AiTierProperties()));
+        CodeValidationService service = newService(aiAnalysisService, new ReviewProperties(), meterRegistry);
+
+        var response = service.reviewBatchAsync(new CodeBatchValidationRequest(List.of(
+                new CodeValidationRequest("public class A { }", "A.java", null, "JAVA"),
+                new CodeValidationRequest("public class B { void run(){ Runtime.getRuntime().exec(\"rm\"); } }",
+                        "B.java", null, "JAVA"),
+                new CodeValidationRequest("public class C { }", "C.java", null, "JAVA")
+        ))).block();
+
+        assertThat(response.files()).extracting(file -> file.result().decision().status())
+                .containsExactly(DecisionStatus.ALLOWED, DecisionStatus.BLOCKED, DecisionStatus.ALLOWED);
+        assertThat(response.files().get(1).error().code()).isEqualTo("FORBIDDEN_PATTERN");
+        assertThat(response.files().get(0).result().analysis().issues()).extracting(Issue::message)
+                .containsExactly("A 이슈");
+        assertThat(response.files().get(2).result().analysis().issues()).extracting(Issue::message)
+                .containsExactly("C 이슈");
+        assertThat(response.decision().reason()).startsWith("B.java: ");
+        verify(provider, times(1)).analyzeCode(anyString(), anyString());
+    }
+
+    @Test
+    void recordsAnalyzerTimingsAndTriggeredRules() {
+        AiAnalysisService aiAnalysisService = mock(AiAnalysisService.class);
+        when(aiAnalysisService.analyze(org.mockito.ArgumentMatchers.any()))
+                .thenReturn(Mono.just(AiAnalysisResult.completed(List.of())));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CodeValidationService service = newService(aiAnalysisService, new ReviewProperties(), meterRegistry);
+
+        service.review(new CodeValidationRequest(
+                "public class B { String password = \"x\"; }", "B.java", null, "JAVA"));
+
+        assertThat(meterRegistry.get("review.static.analyzer").tag("analyzer", "SecurityValidator").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("review.stage").tag("stage", "ai").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("review.decisions").tag("status", "BLOCKED").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("policy.rule.triggered").tag("rule", "SECURITY_HIGH_BLOCK").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void skipsAiAnalysisWhenStaticIssuesAlreadyBlock() {
+        AiAnalysisService aiAnalysisService = mock(AiAnalysisService.class);
+        when(aiAnalysisService.isEnabled()).thenReturn(true);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CodeValidationService service = newService(aiAnalysisService, new ReviewProperties(), meterRegistry);
+
+        var response = service.review(new CodeValidationRequest(
+                "public class B { String password = \"x\"; }", "B.java", null, "JAVA"));
+
+        assertThat(response.decision().status()).isEqualTo(DecisionStatus.BLOCKED);
+        assertThat(response.aiStatus()).isEqualTo(AiAnalysisStatus.SHORT_CIRCUITED);
+        verify(aiAnalysisService, never()).analyze(org.mockito.ArgumentMatchers.any());
+        assertThat(meterRegistry.get("review.ai.short.circuit").tag("reason", "blocked").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void remapsAndDeduplicatesAiIssuesAcrossChunks() {
+        AiAnalysisService aiAnalysisService = mock(AiAnalysisService.class);
+        when(aiAnalysisService.analyze(org.mockito.ArgumentMatchers.any()))
+                .thenReturn(Mono.just(AiAnalysisResult.completed(List.of(
+                        new Issue(IssueType.QUALITY, IssueSeverity.LOW, "chunk-start", 1, IssueSource.AI_ASSIST),
+                        new Issue(IssueType.QUALITY, IssueSeverity.LOW, "file-wide", null, IssueSource.AI_ASSIST)
+                ))));
+        ReviewProperties properties = new ReviewProperties();
+        properties.getChunking().setChunkSize(200);
+        properties.getChunking().setOverlapLines(1);
+        CodeValidationService service = newService(aiAnalysisService, properties, new SimpleMeterRegistry());
+
+        StringBuilder source = new StringBuilder("public class Big {\n");
+        for (int i = 0; i < 20; i++) {
+            source.append("    void m").append(i).append("() {\n        int v = ").append(i).append(";\n    }\n");
+        }
+        source.append("}\n");
+
+        var response = service.review(new CodeValidationRequest(source.toString(), "Big.java", null, "JAVA"));
+
+        List<Issue> chunkStarts = response.analysis().issues().stream()
+                .filter(issue -> issue.message().equals("chunk-start"))
+                .toList();
+        assertThat(chunkStarts).hasSizeGreaterThan(1);
+        assertThat(chunkStarts).extracting(Issue::line).doesNotHaveDuplicates().contains(1);
+        assertThat(response.analysis().issues()).filteredOn(issue -> issue.message().equals("file-wide")).hasSize(1);
+        assertThat(response.aiStatus()).isEqualTo(AiAnalysisStatus.COMPLETED);
+    }
+
+    @Test
+    void reanalyzesOnlyChangedRegionShiftsCarriedAiIssuesAndDropsFileLevelOnes() {
+        AiAnalysisService aiAnalysisService = mock(AiAnalysisService.class);
+        when(aiAnalysisService.isEnabled()).thenReturn(true);
+        when(aiAnalysisService.analyze(org.mockito.ArgumentMatchers.any()))
+                .thenReturn(Mono.just(AiAnalysisResult.completed(List.of(
+                        new Issue(IssueType.QUALITY, IssueSeverity.LOW, "base", 20, IssueSource.AI_ASSIST),
+                        new Issue(IssueType.QUALITY, IssueSeverity.LOW, "file-level", null, IssueSource.AI_ASSIST)))))
+                .thenReturn(Mono.just(AiAnalysisResult.completed(List.of(
+                        new Issue(IssueType.QUALITY, IssueSeverity.LOW, "region", 2, IssueSource.AI_ASSIST)))));
+        ReviewProperties properties = new ReviewProperties();
+        properties.getIncremental().setContextLines(1);
+        CodeValidationService service = newService(aiAnalysisService, properties, new SimpleMeterRegistry());
+
+        StringBuilder source = new StringBuilder("public class A {\n");
+        for (int line = 2; line < 30; line++) {
+            source.append("    int f").append(line).append(" = ").append(line).append(";\n");
+        }
+        source.append("}\n");
+        var base = service.review(new CodeValidationRequest(source.toString(), "A.java", null, "JAVA"));
+
+        var response = service.reviewIncrementalAsync(new IncrementalReviewRequest(
+                base.contentHash(),
+                "--- a/A.java\n+++ b/A.java\n@@ -5 +5,2 @@\n     int f5 = 5;\n+    int added = 0;\n",
+                null,
+                "A.java",
+                null,
+                null
+        )).block();
+
+        ArgumentCaptor<CodeSubmission> submissions = ArgumentCaptor.forClass(CodeSubmission.class);
+        verify(aiAnalysisService, times(2)).analyze(submissions.capture());
+        assertThat(submissions.getAllValues().get(1).sourceCode())
+                .isEqualTo("    int f5 = 5;\n    int added = 0;\n    int f6 = 6;");
+        assertThat(response.analysis().issues())
+                .filteredOn(issue -> issue.source() == IssueSource.AI_ASSIST)
+                .extracting(Issue::message, Issue::line)
+                .containsExactlyInAnyOrder(tuple("region", 6), tuple("base", 21));
+        assertThat(response.contentHash()).isEqualTo(ReviewResultStore.contentHash(
+                source.toString().replace("    int f5 = 5;\n", "    int f5 = 5;\n    int added = 0;\n")));
+    }
+
+    private CodeValidationService newService(
+            AiAnalysisService aiAnalysisService,
+            ReviewProperties properties,
+            SimpleMeterRegistry meterRegistry
+    ) {
+        RulePackValidator rulePackValidator = new RulePackValidator(meterRegistry);
+        PolicyRuleLoader loader = new PolicyRuleLoader(new DefaultResourceLoader());
+        rulePackValidator.replaceDetectors(
+                loader.loadRuleSet(loader.resolve("classpath:validation-rules.json")).detectors());
+        return new CodeValidationService(
+                List.of(new SecurityValidator(), rulePackValidator),
+                aiAnalysisService,
+                new AiTierSelector(new AiTierProperties()),
+                new PolicyEngine(),
+                properties,
+                new ReviewResultStore(properties, meterRegistry),
+                meterRegistry
+        );
+    }
 }
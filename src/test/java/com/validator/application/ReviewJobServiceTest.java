@@ -0,0 +1,229 @@
+package com.validator.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.validator.domain.model.AiAnalysisStatus;
+import com.validator.domain.model.AnalysisSummary;
+import com.validator.domain.model.DecisionResult;
+import com.validator.domain.model.DecisionStatus;
+import com.validator.domain.model.ReviewJobStatus;
+import com.validator.dto.request.CodeValidationRequest;
+import com.validator.dto.request.ReviewJobRequest;
+import com.validator.dto.response.CodeValidationResponse;
+import com.validator.exception.ResourceNotFoundException;
+import com.validator.exception.ValidationException;
+import com.validator.infrastructure.config.ReviewJobProperties;
+import com.validator.infrastructure.job.ReviewJob;
+import com.validator.infrastructure.job.ReviewJobCallbackClient;
+import com.validator.infrastructure.job.ReviewJobStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Exceptions;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReviewJobServiceTest {
+
+    @TempDir
+    Path storeDirectory;
+
+    private ReviewJobService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.stop();
+        }
+    }
+
+    @Test
+    void completesSubmittedJobAndPersistsResult() {
+        CodeValidationService codeValidationService = mock(CodeValidationService.class);
+        when(codeValidationService.review(any())).thenReturn(allowedResponse());
+        ReviewJobStore store = store();
+        service = newService(codeValidationService, store);
+
+        String jobId = service.submit(new ReviewJobRequest(request("A.java"), null, null)).jobId();
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> service.get(jobId).status() == ReviewJobStatus.COMPLETED);
+        assertThat(service.get(jobId).result().decision().status()).isEqualTo(DecisionStatus.ALLOWED);
+        assertThat(store.loadAll()).singleElement()
+                .satisfies(job -> assertThat(job.status()).isEqualTo(ReviewJobStatus.COMPLETED));
+        assertThatThrownBy(() -> service.get("missing")).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void requeuesUnfinishedJobsFromStoreOnStartup() {
+        ReviewJobStore store = store();
+        ReviewJob interrupted = ReviewJob.queued("job-1", 5, 7, request("B.java"), null, Instant.now())
+                .withStatus(ReviewJobStatus.RUNNING);
+        store.save(interrupted);
+        CodeValidationService codeValidationService = mock(CodeValidationService.class);
+        when(codeValidationService.review(any()))
+                .thenThrow(new ValidationException("FORBIDDEN_PATTERN", "금지된 패턴이 포함되어 있습니다: System.exit"));
+
+        service = newService(codeValidationService, store);
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> service.get("job-1").status() == ReviewJobStatus.FAILED);
+        assertThat(service.get("job-1").error().code()).isEqualTo("FORBIDDEN_PATTERN");
+        assertThat(service.submit(new ReviewJobRequest(request("C.java"), 1, null)).status())
+                .isEqualTo(ReviewJobStatus.QUEUED);
+    }
+
+    @Test
+    void leavesJobsInFlightAtShutdownForTheNextStartup() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> worker = new AtomicReference<>();
+        CodeValidationService blocked = mock(CodeValidationService.class);
+        when(blocked.review(any())).thenAnswer(invocation -> {
+            worker.set(Thread.currentThread());
+            started.countDown();
+            release.await();
+            throw Exceptions.propagate(new InterruptedException());
+        });
+        ReviewJobCallbackClient callbackClient = mock(ReviewJobCallbackClient.class);
+        when(callbackClient.isAllowed(any())).thenReturn(true);
+        ReviewJobStore store = store();
+        ReviewJobProperties properties = properties();
+        properties.setShutdownTimeoutSeconds(0);
+        ReviewJobService first = newService(blocked, store, callbackClient, properties);
+        String running = first.submit(new ReviewJobRequest(request("A.java"), null, "http://ci/done")).jobId();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        String waiting = first.submit(new ReviewJobRequest(request("B.java"), null, "http://ci/done")).jobId();
+
+        first.stop();
+        release.countDown();
+        await().atMost(Duration.ofSeconds(5)).until(() -> !worker.get().isAlive());
+
+        assertThat(store.loadAll())
+                .extracting(ReviewJob::id, ReviewJob::status)
+                .containsExactlyInAnyOrder(
+                        tuple(running, ReviewJobStatus.RUNNING),
+                        tuple(waiting, ReviewJobStatus.QUEUED));
+        verify(callbackClient, never()).notify(any(), any(), any());
+
+        CodeValidationService restarted = mock(CodeValidationService.class);
+        when(restarted.review(any())).thenReturn(allowedResponse());
+        service = newService(restarted, store);
+
+        await().atMost(Duration.ofSeconds(5)).until(() ->
+                service.get(running).status() == ReviewJobStatus.COMPLETED
+                        && service.get(waiting).status() == ReviewJobStatus.COMPLETED);
+    }
+
+    @Test
+    void dropsRequestsFromFinishedJobsAndServesEvictedJobsFromStore() {
+        CodeValidationService codeValidationService = mock(CodeValidationService.class);
+        when(codeValidationService.review(any())).thenReturn(allowedResponse());
+        ReviewJobStore store = store();
+        ReviewJobProperties properties = properties();
+        properties.setMaxCachedJobs(1);
+        service = newService(codeValidationService, store, mock(ReviewJobCallbackClient.class), properties);
+
+        String first = service.submit(new ReviewJobRequest(request("A.java"), null, null)).jobId();
+        String second = service.submit(new ReviewJobRequest(request("B.java"), null, null)).jobId();
+        await().atMost(Duration.ofSeconds(5)).until(() ->
+                service.get(first).status() == ReviewJobStatus.COMPLETED
+                        && service.get(second).status() == ReviewJobStatus.COMPLETED);
+
+        assertThat(service.cachedJobCount()).isEqualTo(1);
+        assertThat(service.get(first).result().decision().status()).isEqualTo(DecisionStatus.ALLOWED);
+        assertThat(store.loadAll()).hasSize(2).allSatisfy(job -> assertThat(job.request()).isNull());
+    }
+
+    @Test
+    void sweepsFinishedJobsPastRetentionFromMemoryAndStore() {
+        CodeValidationService codeValidationService = mock(CodeValidationService.class);
+        when(codeValidationService.review(any())).thenReturn(allowedResponse());
+        ReviewJobStore store = store();
+        ReviewJobProperties properties = properties();
+        service = newService(codeValidationService, store, mock(ReviewJobCallbackClient.class), properties);
+        String jobId = service.submit(new ReviewJobRequest(request("A.java"), null, null)).jobId();
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> service.get(jobId).status() == ReviewJobStatus.COMPLETED);
+
+        service.sweepExpired();
+        assertThat(service.get(jobId).status()).isEqualTo(ReviewJobStatus.COMPLETED);
+
+        properties.setRetentionMinutes(-1);
+        service.sweepExpired();
+
+        assertThatThrownBy(() -> service.get(jobId)).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(store.loadAll()).isEmpty();
+    }
+
+    @Test
+    void rejectsCallbacksToHostsOutsideAllowlist() {
+        ReviewJobProperties properties = properties();
+        properties.setCallbackAllowedHosts(List.of("ci.example.com", "*.hooks.example.com"));
+        ReviewJobCallbackClient callbackClient = new ReviewJobCallbackClient(WebClient.builder(), properties);
+        service = newService(mock(CodeValidationService.class), store(), callbackClient, properties);
+
+        assertThatThrownBy(() -> service.submit(new ReviewJobRequest(
+                request("A.java"), null, "http://169.254.169.254/latest/meta-data")))
+                .isInstanceOf(ValidationException.class);
+        assertThat(callbackClient.isAllowed("https://ci.example.com/done")).isTrue();
+        assertThat(callbackClient.isAllowed("https://a.hooks.example.com/done")).isTrue();
+        assertThat(callbackClient.isAllowed("https://ci.example.com.evil.io/done")).isFalse();
+    }
+
+    private ReviewJobService newService(CodeValidationService codeValidationService, ReviewJobStore store) {
+        return newService(codeValidationService, store, mock(ReviewJobCallbackClient.class), properties());
+    }
+
+    private ReviewJobService newService(
+            CodeValidationService codeValidationService,
+            ReviewJobStore store,
+            ReviewJobCallbackClient callbackClient,
+            ReviewJobProperties properties
+    ) {
+        ReviewJobService jobService = new ReviewJobService(codeValidationService, store, callbackClient, properties);
+        jobService.start();
+        return jobService;
+    }
+
+    private ReviewJobStore store() {
+        return new ReviewJobStore(new ObjectMapper().findAndRegisterModules(), properties());
+    }
+
+    private ReviewJobProperties properties() {
+        ReviewJobProperties properties = new ReviewJobProperties();
+        properties.setWorkers(1);
+        properties.setStoreDirectory(storeDirectory.toString());
+        return properties;
+    }
+
+    private CodeValidationRequest request(String filePath) {
+        return new CodeValidationRequest("public class A { }", filePath, null, "JAVA");
+    }
+
+    private CodeValidationResponse allowedResponse() {
+        return new CodeValidationResponse(
+                new DecisionResult(DecisionStatus.ALLOWED, "No blocking issues found", List.of()),
+                new AnalysisSummary(List.of(), 0, false),
+                List.of("특이 사항이 없습니다. 기본 품질 기준을 충족합니다."),
+                AiAnalysisStatus.COMPLETED,
+                null
+        );
+    }
+}
@@ -0,0 +1,49 @@
+package com.validator.domain.policy;
+
+import com.validator.domain.model.Issue;
+import com.validator.domain.model.IssueSeverity;
+import com.validator.domain.model.IssueSource;
+import com.validator.domain.model.IssueType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IssueMergerTest {
+
+    private final IssueMerger merger = new IssueMerger(0.5, 1);
+
+    @Test
+    void mergesSimilarIssuesKeepingStrongestSeverityAndAllSources() {
+        List<Issue> merged = merger.merge(List.of(
+                new Issue(IssueType.QUALITY, IssueSeverity.LOW,
+                        "System.out.println 사용은 로깅 프레임워크로 교체하세요.", 3, IssueSource.STATIC_ANALYZER),
+                new Issue(IssueType.QUALITY, IssueSeverity.LOW,
+                        "System.out.print 사용은 로깅 프레임워크로 교체하세요.", 3, IssueSource.STATIC_ANALYZER),
+                new Issue(IssueType.SECURITY, IssueSeverity.HIGH,
+                        "하드코딩된 시크릿이 의심됩니다.", 5, IssueSource.STATIC_ANALYZER),
+                new Issue(IssueType.SECURITY, IssueSeverity.CRITICAL,
+                        "하드코딩된 시크릿(비밀번호)이 의심됩니다.", 6, IssueSource.AI_ASSIST)
+        ));
+
+        assertThat(merged).hasSize(2);
+        assertThat(merged.get(0).message()).startsWith("System.out.println");
+        assertThat(merged.get(0).sources()).containsExactly(IssueSource.STATIC_ANALYZER);
+        assertThat(merged.get(1).severity()).isEqualTo(IssueSeverity.CRITICAL);
+        assertThat(merged.get(1).line()).isEqualTo(6);
+        assertThat(merged.get(1).sources()).containsExactly(IssueSource.STATIC_ANALYZER, IssueSource.AI_ASSIST);
+    }
+
+    @Test
+    void keepsIssuesApartWhenTypeLineOrMessageDiffers() {
+        List<Issue> issues = List.of(
+                new Issue(IssueType.QUALITY, IssueSeverity.LOW, "TODO 주석이 남아 있습니다.", 2, IssueSource.STATIC_ANALYZER),
+                new Issue(IssueType.QUALITY, IssueSeverity.LOW, "TODO 주석이 남아 있습니다.", 9, IssueSource.AI_ASSIST),
+                new Issue(IssueType.SECURITY, IssueSeverity.LOW, "TODO 주석이 남아 있습니다.", 2, IssueSource.AI_ASSIST),
+                new Issue(IssueType.QUALITY, IssueSeverity.LOW, "예외를 삼키고 있습니다.", 2, IssueSource.AI_ASSIST)
+        );
+
+        assertThat(merger.merge(issues)).isEqualTo(issues);
+    }
+}
@@ -85,6 +85,45 @@ class PolicyEngineTest {
         assertThat(result.status()).isEqualTo(DecisionStatus.ALLOWED);
     }
 
+    @Test
+    void countsHigherSeveritiesTowardsLowerThresholds() {
+        PolicyEngine engine = new PolicyEngine(List.of(
+                new PolicyRule("ANY_MEDIUM", "Any medium or worse", IssueType.ANY, IssueSeverity.MEDIUM, 3, PolicyAction.WARN),
+                new PolicyRule("QUALITY_LOW", "Quality low or worse", IssueType.QUALITY, IssueSeverity.LOW, 3, PolicyAction.BLOCK)
+        ));
+        List<Issue> issues = List.of(
+                issue(IssueType.QUALITY, IssueSeverity.CRITICAL),
+                issue(IssueType.SYNTAX, IssueSeverity.HIGH),
+                issue(IssueType.QUALITY, IssueSeverity.MEDIUM),
+                issue(IssueType.QUALITY, IssueSeverity.LOW)
+        );
+
+        var result = engine.decide(issues);
+
+        assertThat(result.status()).isEqualTo(DecisionStatus.BLOCKED);
+        assertThat(result.reason()).isEqualTo("Quality low or worse (count=3)");
+        assertThat(result.triggeredRules()).containsExactly("ANY_MEDIUM", "QUALITY_LOW");
+    }
+
+    @Test
+    void reportsFirstMatchingWarnRuleWhenNothingBlocks() {
+        PolicyEngine engine = new PolicyEngine();
+        List<Issue> issues = List.of(
+                issue(IssueType.QUALITY, IssueSeverity.MEDIUM),
+                issue(IssueType.QUALITY, IssueSeverity.MEDIUM),
+                issue(IssueType.SECURITY, IssueSeverity.MEDIUM),
+                issue(IssueType.SECURITY, IssueSeverity.MEDIUM),
+                issue(IssueType.SYNTAX, IssueSeverity.MEDIUM)
+        );
+
+        var result = engine.decide(issues);
+
+        assertThat(result.status()).isEqualTo(DecisionStatus.WARN_ONLY);
+        assertThat(result.reason()).isEqualTo("Warn on multiple security issues (count=2)");
+        assertThat(result.triggeredRules())
+                .containsExactly("SECURITY_MEDIUM_WARN", "MEDIUM_ISSUES_WARN", "QUALITY_MEDIUM_WARN");
+    }
+
     private Issue issue(IssueType type, IssueSeverity severity) {
         return new Issue(type, severity, "test", null, IssueSource.STATIC_ANALYZER);
     }
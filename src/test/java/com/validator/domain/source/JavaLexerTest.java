@@ -0,0 +1,56 @@
+package com.validator.domain.source;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JavaLexerTest {
+
+    @Test
+    void separatesStringsCommentsAndCodeWithLineNumbers() {
+        String source = """
+                /* header {
+                 */
+                class A { // }
+                    String s = "{ \\" (";
+                    char c = '}';
+                    String t = \"""
+                        )
+                        \""";
+                    int n = 1_000.5f;
+                }
+                """;
+
+        SourceTokens tokens = JavaLexer.tokenize(source);
+
+        List<String> symbols = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            if (tokens.kind(i) == TokenKind.SYMBOL) {
+                symbols.add(String.valueOf(tokens.symbol(i)));
+            }
+        }
+        assertThat(symbols).containsExactly("{", "=", ";", "=", ";", "=", ";", "=", ";", "}");
+        assertThat(tokens.kind(0)).isEqualTo(TokenKind.COMMENT);
+        assertThat(tokens.text(1)).isEqualTo("class");
+        assertThat(tokens.line(1)).isEqualTo(3);
+        assertThat(tokens.regionAt(source.indexOf("{ \\\""))).isEqualTo(SourceRegion.STRING);
+        assertThat(tokens.regionAt(source.indexOf("// }") + 3)).isEqualTo(SourceRegion.COMMENT);
+        assertThat(tokens.regionAt(source.indexOf("class"))).isEqualTo(SourceRegion.CODE);
+
+        int last = tokens.size() - 1;
+        assertThat(tokens.line(last)).isEqualTo(10);
+        assertThat(tokens.text(last - 2)).isEqualTo("1_000.5f");
+    }
+
+    @Test
+    void endsUnterminatedStringAtLineBreak() {
+        SourceTokens tokens = JavaLexer.tokenize("String s = \"open\nint x = 1;");
+
+        assertThat(tokens.text(3)).isEqualTo("\"open");
+        assertThat(tokens.text(4)).isEqualTo("int");
+        assertThat(tokens.line(4)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,62 @@
+package com.validator.domain.source;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SourceChunkerTest {
+
+    @Test
+    void returnsSingleChunkForSmallSource() {
+        List<SourceChunk> chunks = new SourceChunker(1000, 2).split("class A {\n}\n");
+
+        assertThat(chunks).singleElement()
+                .satisfies(chunk -> {
+                    assertThat(chunk.startLine()).isEqualTo(1);
+                    assertThat(chunk.endLine()).isEqualTo(3);
+                });
+    }
+
+    @Test
+    void splitsOnMethodBoundariesWithOverlapCoveringEveryLine() {
+        StringBuilder source = new StringBuilder("public class Big {\n");
+        for (int i = 0; i < 40; i++) {
+            source.append("    void method").append(i).append("() {\n")
+                    .append("        int value = ").append(i).append(";\n")
+                    .append("    }\n");
+        }
+        source.append("}\n");
+        String[] lines = source.toString().split("\n", -1);
+
+        List<SourceChunk> chunks = new SourceChunker(400, 2).split(source.toString());
+
+        assertThat(chunks).hasSizeGreaterThan(1);
+        assertThat(chunks.get(0).startLine()).isEqualTo(1);
+        assertThat(chunks.get(chunks.size() - 1).endLine()).isEqualTo(lines.length);
+        for (int i = 0; i < chunks.size(); i++) {
+            SourceChunk chunk = chunks.get(i);
+            assertThat(chunk.source().length()).isLessThanOrEqualTo(400);
+            assertThat(chunk.source()).startsWith(lines[chunk.startLine() - 1]);
+            if (i < chunks.size() - 1) {
+                assertThat(lines[chunk.endLine() - 1]).isEqualTo("    }");
+                assertThat(chunks.get(i + 1).startLine()).isEqualTo(chunk.endLine() - 1);
+            }
+        }
+    }
+
+    @Test
+    void capsOverlapSoLongLinesStillAdvanceThroughTheFile() {
+        String line = "x".repeat(999) + "\n";
+        String source = line.repeat(200);
+
+        List<SourceChunk> chunks = new SourceChunker(12000, 20).split(source);
+
+        assertThat(chunks.get(chunks.size() - 1).endLine()).isEqualTo(201);
+        assertThat(chunks).hasSizeLessThan(30);
+        for (int i = 1; i < chunks.size(); i++) {
+            assertThat(chunks.get(i).startLine()).isLessThanOrEqualTo(chunks.get(i - 1).endLine() + 1);
+        }
+    }
+}
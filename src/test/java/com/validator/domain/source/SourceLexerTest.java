@@ -0,0 +1,61 @@
+package com.validator.domain.source;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SourceLexerTest {
+
+    @Test
+    void recognizesHashCommentsAndQuotesForScriptLanguages() {
+        String source = """
+                # don't forget: TODO remove eval(
+                doc = '''
+                # not a comment
+                '''
+                name = "a # b"  # trailing TODO
+                """;
+
+        SourceTokens tokens = SourceLexer.tokenize(source, "PYTHON");
+
+        assertThat(tokens.regionAt(source.indexOf("TODO"))).isEqualTo(SourceRegion.COMMENT);
+        assertThat(tokens.regionAt(source.indexOf("eval("))).isEqualTo(SourceRegion.COMMENT);
+        assertThat(tokens.regionAt(source.indexOf("# not"))).isEqualTo(SourceRegion.STRING);
+        assertThat(tokens.regionAt(source.indexOf("# b"))).isEqualTo(SourceRegion.STRING);
+        assertThat(tokens.regionAt(source.indexOf("name"))).isEqualTo(SourceRegion.CODE);
+        assertThat(tokens.regionAt(source.lastIndexOf("TODO"))).isEqualTo(SourceRegion.COMMENT);
+    }
+
+    @Test
+    void readsGoBacktickRawStringsAsStrings() {
+        String source = "query := `SELECT 1\nos.Exit(0)\n`\nos.Exit(1)\n";
+
+        SourceTokens tokens = SourceLexer.tokenize(source, "GO");
+
+        assertThat(tokens.regionAt(source.indexOf("os.Exit("))).isEqualTo(SourceRegion.STRING);
+        assertThat(tokens.regionAt(source.lastIndexOf("os.Exit("))).isEqualTo(SourceRegion.CODE);
+    }
+
+    @Test
+    void keepsCodeAfterRustLifetimesInCodeRegion() {
+        String source = "fn first(s: &'a str) -> char { let c = 'x'; exec(s) }\n";
+
+        SourceTokens tokens = SourceLexer.tokenize(source, "RUST");
+
+        assertThat(tokens.regionAt(source.indexOf("str"))).isEqualTo(SourceRegion.CODE);
+        assertThat(tokens.regionAt(source.indexOf("'x'") + 1)).isEqualTo(SourceRegion.STRING);
+        assertThat(tokens.regionAt(source.indexOf("exec"))).isEqualTo(SourceRegion.CODE);
+    }
+
+    @Test
+    void treatsUnknownLanguagesAsCodeAndKeepsJavaRulesForCStyleLanguages() {
+        String source = "-- don't TODO\nSELECT 1; // x\n";
+
+        SourceTokens plain = SourceLexer.tokenize(source, "SQL");
+        SourceTokens java = SourceLexer.tokenize(source, "java");
+
+        assertThat(plain.regionAt(source.indexOf("TODO"))).isEqualTo(SourceRegion.CODE);
+        assertThat(plain.regionAt(source.indexOf("// x") + 3)).isEqualTo(SourceRegion.CODE);
+        assertThat(java.regionAt(source.indexOf("// x") + 3)).isEqualTo(SourceRegion.COMMENT);
+    }
+}
@@ -0,0 +1,55 @@
+package com.validator.domain.source;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class UnifiedDiffTest {
+
+    private static final String BASE = "a\nb\nc\nd\ne\nf\n";
+
+    @Test
+    void appliesHunksAndTracksMovedAndChangedLines() {
+        String diff = """
+                --- a/File.java
+                +++ b/File.java
+                @@ -1,3 +1,2 @@
+                 a
+                -b
+                 c
+                @@ -5,1 +4,3 @@
+                -e
+                +E1
+                +E2
+                """;
+
+        SourceDelta delta = UnifiedDiff.apply(BASE, diff);
+
+        assertThat(delta.source()).isEqualTo("a\nc\nd\nE1\nE2\nf\n");
+        assertThat(delta.toNewLine(1)).isEqualTo(1);
+        assertThat(delta.toNewLine(2)).isNull();
+        assertThat(delta.toNewLine(4)).isEqualTo(3);
+        assertThat(delta.toNewLine(6)).isEqualTo(6);
+        assertThat(delta.changes()).containsExactly(new LineRange(2, 2), new LineRange(4, 5));
+        assertThat(delta.regions(0)).extracting(SourceChunk::startLine, SourceChunk::endLine)
+                .containsExactly(tuple(2, 2), tuple(4, 5));
+    }
+
+    @Test
+    void rejectsDiffThatDoesNotMatchBase() {
+        assertThatThrownBy(() -> UnifiedDiff.apply(BASE, "@@ -2,1 +2,1 @@\n-x\n+y\n"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void computesSingleChangedRangeFromNewContent() {
+        SourceDelta delta = SourceDelta.between(BASE, "a\nb\nX\nd\ne\nf\n");
+
+        assertThat(delta.changes()).containsExactly(new LineRange(3, 3));
+        assertThat(delta.toNewLine(3)).isNull();
+        assertThat(delta.toNewLine(6)).isEqualTo(6);
+        assertThat(SourceDelta.between(BASE, BASE).isUnchanged()).isTrue();
+    }
+}
@@ -0,0 +1,106 @@
+package com.validator.infrastructure.admission;
+
+import com.validator.exception.OverloadException;
+import com.validator.infrastructure.config.ReviewProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class ReviewAdmissionLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shedsWhenInFlightBytesAndQueueAreExhausted() {
+        ReviewAdmissionLimiter limiter = limiter(4, 1000, 0, 50);
+
+        ReviewAdmissionLimiter.Permit first = limiter.acquire(800, AdmissionPriority.INTERACTIVE);
+
+        assertThatThrownBy(() -> limiter.acquire(300, AdmissionPriority.INTERACTIVE))
+                .isInstanceOf(OverloadException.class)
+                .extracting("code", "retryAfterSeconds")
+                .containsExactly("REVIEW_OVERLOADED", 5L);
+        assertThat(limiter.inFlightBytes()).isEqualTo(800);
+
+        first.release();
+        first.release();
+        limiter.acquire(300, AdmissionPriority.INTERACTIVE);
+        assertThat(limiter.inFlightBytes()).isEqualTo(300);
+        assertThat(meterRegistry.get("review.admission.rejected").tag("reason", "queue_full").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void admitsQueuedInteractiveBeforeBatchAndTimesOutLongWaits() {
+        ReviewAdmissionLimiter limiter = limiter(1, 1000, 10, 5000);
+        ReviewAdmissionLimiter.Permit running = limiter.acquire(10, AdmissionPriority.INTERACTIVE);
+        List<AdmissionPriority> admitted = new CopyOnWriteArrayList<>();
+
+        CompletableFuture<Void> batch = CompletableFuture.runAsync(() -> {
+            limiter.acquire(10, AdmissionPriority.BATCH).release();
+            admitted.add(AdmissionPriority.BATCH);
+        });
+        await().atMost(Duration.ofSeconds(5)).until(() -> limiter.queued() == 1);
+        CompletableFuture<Void> interactive = CompletableFuture.runAsync(() -> {
+            ReviewAdmissionLimiter.Permit permit = limiter.acquire(10, AdmissionPriority.INTERACTIVE);
+            admitted.add(AdmissionPriority.INTERACTIVE);
+            permit.release();
+        });
+        await().atMost(Duration.ofSeconds(5)).until(() -> limiter.queued() == 2);
+
+        running.release();
+        CompletableFuture.allOf(batch, interactive).join();
+
+        assertThat(admitted).containsExactly(AdmissionPriority.INTERACTIVE, AdmissionPriority.BATCH);
+        assertThat(limiter.active()).isZero();
+
+        ReviewAdmissionLimiter impatient = limiter(1, 1000, 10, 50);
+        impatient.acquire(10, AdmissionPriority.INTERACTIVE);
+        assertThatThrownBy(() -> impatient.acquire(10, AdmissionPriority.BATCH))
+                .isInstanceOf(OverloadException.class)
+                .extracting("code")
+                .isEqualTo("REVIEW_ADMISSION_TIMEOUT");
+        assertThat(impatient.queued()).isZero();
+    }
+
+    @Test
+    void capsQueueWellBelowServletThreadPool() {
+        ReviewProperties properties = new ReviewProperties();
+        properties.getAdmission().setMaxConcurrent(1);
+        properties.getAdmission().setMaxQueued(200);
+        ServerProperties serverProperties = new ServerProperties();
+        serverProperties.getTomcat().getThreads().setMax(3);
+        ReviewAdmissionLimiter limiter = new ReviewAdmissionLimiter(properties, serverProperties, meterRegistry);
+        limiter.acquire(10, AdmissionPriority.INTERACTIVE);
+
+        assertThatThrownBy(() -> limiter.acquire(10, AdmissionPriority.INTERACTIVE))
+                .isInstanceOf(OverloadException.class)
+                .extracting("code")
+                .isEqualTo("REVIEW_OVERLOADED");
+        assertThat(limiter.queued()).isZero();
+    }
+
+    private ReviewAdmissionLimiter limiter(
+            int maxConcurrent,
+            long maxInFlightBytes,
+            int maxQueued,
+            long maxWaitMillis
+    ) {
+        ReviewProperties properties = new ReviewProperties();
+        ReviewProperties.Admission admission = properties.getAdmission();
+        admission.setMaxConcurrent(maxConcurrent);
+        admission.setMaxInFlightBytes(maxInFlightBytes);
+        admission.setMaxQueued(maxQueued);
+        admission.setMaxWaitMillis(maxWaitMillis);
+        return new ReviewAdmissionLimiter(properties, new ServerProperties(), meterRegistry);
+    }
+}
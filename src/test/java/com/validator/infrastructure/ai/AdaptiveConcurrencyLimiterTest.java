@@ -0,0 +1,91 @@
+package com.validator.infrastructure.ai;
+
+import com.validator.exception.AiServiceException;
+import com.validator.infrastructure.config.OpenAiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void queuesCallsBeyondLimitUntilPermitReleased() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 30000);
+        Sinks.One<String> first = Sinks.one();
+        AtomicInteger started = new AtomicInteger();
+
+        limiter.execute(() -> {
+            started.incrementAndGet();
+            return first.asMono();
+        }).subscribe();
+        limiter.execute(() -> {
+            started.incrementAndGet();
+            return Mono.never();
+        }).subscribe();
+        limiter.execute(() -> {
+            started.incrementAndGet();
+            return Mono.just("third");
+        }).subscribe();
+
+        assertThat(started).hasValue(2);
+        assertThat(limiter.queued()).isEqualTo(1);
+
+        first.tryEmitValue("first");
+
+        assertThat(started).hasValue(3);
+        assertThat(limiter.queued()).isZero();
+        assertThat(limiter.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void halvesLimitOnceForConcurrentOverloadResponses() {
+        AdaptiveConcurrencyLimiter limiter = limiter(8, 30000);
+        Sinks.One<String> first = Sinks.one();
+        Sinks.One<String> second = Sinks.one();
+        limiter.execute(first::asMono).subscribe(value -> { }, ex -> { });
+        limiter.execute(second::asMono).subscribe(value -> { }, ex -> { });
+
+        first.tryEmitError(tooManyRequests(null));
+        second.tryEmitError(tooManyRequests(null));
+
+        assertThat(limiter.limit()).isEqualTo(4.0);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void pausesAllCallsForRetryAfterAndFailsAfterQueueDeadline() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 200);
+        assertThatThrownBy(() -> limiter.execute(() -> Mono.error(tooManyRequests("30"))).block())
+                .isInstanceOf(WebClientResponseException.class);
+
+        assertThatThrownBy(() -> limiter.execute(() -> Mono.just("late")).block(Duration.ofSeconds(5)))
+                .isInstanceOf(AiServiceException.class)
+                .satisfies(ex -> assertThat(((AiServiceException) ex).getCode()).isEqualTo("OPENAI_QUEUE_TIMEOUT"));
+        assertThat(limiter.queued()).isZero();
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, long queueTimeoutMillis) {
+        OpenAiProperties.Limiter settings = new OpenAiProperties.Limiter();
+        settings.setInitialLimit(initialLimit);
+        settings.setQueueTimeoutMillis(queueTimeoutMillis);
+        return new AdaptiveConcurrencyLimiter(settings, new SimpleMeterRegistry());
+    }
+
+    private WebClientResponseException tooManyRequests(String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        if (retryAfter != null) {
+            headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        }
+        return WebClientResponseException.create(429, "Too Many Requests", headers, new byte[0], StandardCharsets.UTF_8);
+    }
+}
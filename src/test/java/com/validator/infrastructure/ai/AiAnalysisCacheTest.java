@@ -0,0 +1,121 @@
+package com.validator.infrastructure.ai;
+
+import com.validator.domain.model.CodeSubmission;
+import com.validator.domain.model.Issue;
+import com.validator.domain.model.IssueSeverity;
+import com.validator.domain.model.IssueSource;
+import com.validator.domain.model.IssueType;
+import com.validator.infrastructure.config.AiCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class AiAnalysisCacheTest {
+
+    @Test
+    void ignoresWhitespaceOnlyChangesInKey() {
+        AiAnalysisCache cache = new AiAnalysisCache(new AiCacheProperties(), new SimpleMeterRegistry());
+
+        String original = cache.keyOf(submission("class A {\n    int a = 1;\n}\n"), "gpt-4o-mini", "v1");
+        String reformatted = cache.keyOf(submission("class  A {\r\n\tint a =  1;   \r\n}\r\n"), "gpt-4o-mini", "v1");
+        String otherModel = cache.keyOf(submission("class A {\n    int a = 1;\n}\n"), "gpt-4o", "v1");
+        String otherContext = cache.keyOf(
+                new CodeSubmission("class A {\n    int a = 1;\n}\n", "A.java", "hot path", "JAVA"),
+                "gpt-4o-mini",
+                "v1");
+
+        assertThat(reformatted).isEqualTo(original);
+        assertThat(otherModel).isNotEqualTo(original);
+        assertThat(otherContext).isNotEqualTo(original);
+    }
+
+    @Test
+    void keepsIndentationInKeyForIndentSensitiveLanguages() {
+        AiAnalysisCache cache = new AiAnalysisCache(new AiCacheProperties(), new SimpleMeterRegistry());
+        String nested = "if ready:\n    run()\n    stop()\n";
+        String dedented = "if ready:\n    run()\nstop()\n";
+
+        String python = cache.keyOf(new CodeSubmission(nested, "a.py", null, "PYTHON"), "gpt-4o-mini", "v1");
+        String pythonDedented = cache.keyOf(new CodeSubmission(dedented, "a.py", null, "PYTHON"), "gpt-4o-mini", "v1");
+        String pythonSpaced = cache.keyOf(
+                new CodeSubmission("if  ready:\r\n    run()  \n    stop()\n", "a.py", null, "PYTHON"),
+                "gpt-4o-mini",
+                "v1");
+
+        assertThat(pythonDedented).isNotEqualTo(python);
+        assertThat(pythonSpaced).isEqualTo(python);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntryWhenFull() {
+        AiCacheProperties properties = new AiCacheProperties();
+        properties.setMaxEntries(2);
+        AiAnalysisCache cache = new AiAnalysisCache(properties, new SimpleMeterRegistry());
+
+        cache.put("a", List.of(issue()));
+        cache.put("b", List.of());
+        cache.lookup("a").block();
+        cache.put("c", List.of());
+
+        assertThat(cache.lookup("a").block()).isPresent();
+        assertThat(cache.lookup("b").block()).isEmpty();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void restoresEntriesFromDiskTier(@TempDir Path directory) {
+        AiCacheProperties properties = new AiCacheProperties();
+        properties.setDiskEnabled(true);
+        properties.setDiskDirectory(directory.toString());
+        new AiAnalysisCache(properties, new SimpleMeterRegistry()).put("key", List.of(issue()));
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> Files.exists(directory.resolve("key.json")));
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AiAnalysisCache restarted = new AiAnalysisCache(properties, registry);
+
+        assertThat(restarted.lookup("key").block()).contains(List.of(issue()));
+        assertThat(registry.counter("ai.analysis.cache.gets", "result", "hit", "tier", "disk").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void sweepsDiskTierBeyondSizeBound(@TempDir Path directory) throws Exception {
+        AiCacheProperties properties = new AiCacheProperties();
+        properties.setDiskEnabled(true);
+        properties.setDiskDirectory(directory.toString());
+        properties.setDiskMaxEntries(1);
+        AiAnalysisCache cache = new AiAnalysisCache(properties, new SimpleMeterRegistry());
+        try {
+            cache.put("old", List.of(issue()));
+            cache.put("new", List.of(issue()));
+            await().atMost(Duration.ofSeconds(5)).until(() -> Files.exists(directory.resolve("old.json"))
+                    && Files.exists(directory.resolve("new.json")));
+            Files.setLastModifiedTime(directory.resolve("old.json"), FileTime.fromMillis(1_000));
+
+            cache.sweepDisk();
+
+            assertThat(directory.resolve("old.json")).doesNotExist();
+            assertThat(directory.resolve("new.json")).exists();
+        } finally {
+            cache.stop();
+        }
+    }
+
+    private CodeSubmission submission(String source) {
+        return new CodeSubmission(source, "A.java", null, "JAVA");
+    }
+
+    private Issue issue() {
+        return new Issue(IssueType.SECURITY, IssueSeverity.HIGH, "test", 3, IssueSource.AI_ASSIST);
+    }
+}
@@ -0,0 +1,90 @@
+package com.validator.infrastructure.ai;
+
+import com.validator.domain.model.Issue;
+import com.validator.domain.model.IssueSeverity;
+import com.validator.domain.model.IssueType;
+import com.validator.exception.AiServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiAnalysisResponseParserTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AiAnalysisResponseParser parser = new AiAnalysisResponseParser(meterRegistry);
+
+    @Test
+    void parsesIssuesFromChatCompletionEnvelope() {
+        String response = """
+                {"choices":[{"message":{"role":"assistant","content":"[{\\"type\\":\\"security\\",\\"severity\\":\\"HIGH\\",\\"message\\":\\"m\\",\\"line\\":3},{\\"type\\":\\"QUALITY\\",\\"severity\\":\\"LOW\\"}]"}}]}
+                """;
+
+        List<Issue> issues = parser.parseIssues(response);
+
+        assertThat(issues).singleElement()
+                .satisfies(issue -> {
+                    assertThat(issue.type()).isEqualTo(IssueType.SECURITY);
+                    assertThat(issue.severity()).isEqualTo(IssueSeverity.HIGH);
+                    assertThat(issue.line()).isEqualTo(3);
+                });
+    }
+
+    @Test
+    void parsesBatchIssuesFromResponseBytesWithEmbeddedArray() {
+        String response = """
+                {"id":"x","choices":[{"index":0,"message":{"content":"결과: [{\\"file\\":1,\\"type\\":\\"QUALITY\\",\\"severity\\":\\"MEDIUM\\",\\"message\\":\\"m\\",\\"extra\\":{\\"a\\":[1]}},{\\"file\\":5,\\"type\\":\\"QUALITY\\",\\"severity\\":\\"LOW\\",\\"message\\":\\"out of range\\"}] 끝"}}]}
+                """;
+
+        List<List<Issue>> issues = parser.parseBatchIssues(response.getBytes(StandardCharsets.UTF_8), 2);
+
+        assertThat(issues.get(0)).isEmpty();
+        assertThat(issues.get(1)).singleElement()
+                .satisfies(issue -> {
+                    assertThat(issue.type()).isEqualTo(IssueType.QUALITY);
+                    assertThat(issue.line()).isNull();
+                });
+        assertThat(meterRegistry.get("ai.analysis.parse").tag("outcome", "extracted").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsTokenUsageAndParseOutcome() {
+        String response = """
+                {"choices":[{"message":{"content":"[]"}}],"usage":{"prompt_tokens":120,"completion_tokens":30}}
+                """;
+
+        parser.parseIssues(response);
+        assertThatThrownBy(() -> parser.parseIssues("not json"))
+                .isInstanceOf(AiServiceException.class);
+
+        assertThat(meterRegistry.get("ai.openai.tokens").tag("type", "prompt").counter().count()).isEqualTo(120);
+        assertThat(meterRegistry.get("ai.openai.tokens").tag("type", "completion").counter().count()).isEqualTo(30);
+        assertThat(meterRegistry.get("ai.analysis.parse").tag("outcome", "content").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("ai.analysis.parse").tag("outcome", "invalid_json").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void emitsIssuesAsSoonAsEachStreamedObjectCloses() {
+        IncrementalIssueParser incremental = parser.newIncrementalParser();
+        List<List<Issue>> emitted = new ArrayList<>();
+
+        for (String delta : List.of(
+                "[{\"type\":\"SECURITY\",\"severity\":\"HIGH\",",
+                "\"message\":\"brace } in \\\"text\\\"\",\"line\":2}",
+                ",{\"type\":\"QUALITY\",\"severity\":\"LOW\",\"message\":\"x\",\"line\":null}]",
+                "{\"type\":\"OTHER\",\"severity\":\"LOW\",\"message\":\"ignored\"}"
+        )) {
+            emitted.add(incremental.feed(delta));
+        }
+
+        assertThat(emitted.get(0)).isEmpty();
+        assertThat(emitted.get(1)).extracting(Issue::message).containsExactly("brace } in \"text\"");
+        assertThat(emitted.get(2)).extracting(Issue::type).containsExactly(IssueType.QUALITY);
+        assertThat(emitted.get(3)).isEmpty();
+    }
+}
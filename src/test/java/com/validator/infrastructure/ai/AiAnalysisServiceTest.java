@@ -0,0 +1,90 @@
+package com.validator.infrastructure.ai;
+
+import com.validator.domain.model.AiAnalysisStatus;
+import com.validator.domain.model.AiTier;
+import com.validator.domain.model.CodeSubmission;
+import com.validator.infrastructure.config.AiCacheProperties;
+import com.validator.infrastructure.config.AiRoutingProperties;
+import com.validator.infrastructure.config.AiTierProperties;
+import com.validator.infrastructure.config.OpenAiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AiAnalysisServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AiAnalysisCache cache = new AiAnalysisCache(new AiCacheProperties(), meterRegistry);
+    private final AiProvider provider = mock(AiProvider.class);
+
+    private AiAnalysisService service() {
+        return service(new OpenAiProperties());
+    }
+
+    private AiAnalysisService service(OpenAiProperties properties) {
+        when(provider.name()).thenReturn(OpenAiClient.NAME);
+        when(provider.model()).thenReturn("gpt-4o-mini");
+        when(provider.isEnabled()).thenReturn(true);
+        return new AiAnalysisService(
+                new AiProviderRouter(List.of(provider), new AiRoutingProperties()),
+                new AiAnalysisResponseParser(meterRegistry),
+                properties,
+                cache,
+                new AiTierSelector(new AiTierProperties()));
+    }
+
+    @Test
+    void degradesWithoutCachingWhenResponseIsMalformed() {
+        when(provider.analyzeCode(anyString(), anyString())).thenReturn(Mono.just(
+                "{\"choices\":[{\"message\":{\"content\":\"문제 없음\"}}]}".getBytes(StandardCharsets.UTF_8)));
+
+        AiAnalysisResult result = service().analyze(new CodeSubmission("class A { }", "A.java", null, "JAVA")).block();
+
+        assertThat(result.status()).isEqualTo(AiAnalysisStatus.DEGRADED);
+        assertThat(cache.size()).isZero();
+        assertThat(meterRegistry.get("ai.analysis.parse").tag("outcome", "not_array").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void degradesWithoutCachingWhenPromptIsTruncatedToBudget() {
+        when(provider.analyzeCode(anyString(), anyString())).thenReturn(Mono.just(
+                "{\"choices\":[{\"message\":{\"content\":\"[]\"}}]}".getBytes(StandardCharsets.UTF_8)));
+        OpenAiProperties properties = new OpenAiProperties();
+        properties.setPromptTokenBudget(20);
+        StringBuilder source = new StringBuilder("class A {\n");
+        for (int i = 0; i < 50; i++) {
+            source.append("    int field").append(i).append(" = ").append(i).append(";\n");
+        }
+
+        AiAnalysisResult result = service(properties)
+                .analyze(new CodeSubmission(source.append("}\n").toString(), "A.java", null, "JAVA")).block();
+
+        assertThat(result.status()).isEqualTo(AiAnalysisStatus.DEGRADED);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void keepsTierResultsApartWhenTiersShareAModel() {
+        when(provider.analyzeCode(anyString(), anyString())).thenReturn(Mono.just(
+                "{\"choices\":[{\"message\":{\"content\":\"[]\"}}]}".getBytes(StandardCharsets.UTF_8)));
+        AiAnalysisService service = service();
+        CodeSubmission submission = new CodeSubmission("class A { }", "A.java", null, "JAVA");
+
+        service.analyze(submission.withAiTier(AiTier.FAST)).block();
+        service.analyze(submission.withAiTier(AiTier.FAST)).block();
+        service.analyze(submission.withAiTier(AiTier.THOROUGH)).block();
+
+        verify(provider, times(2)).analyzeCode(anyString(), anyString());
+    }
+}
@@ -0,0 +1,60 @@
+package com.validator.infrastructure.ai;
+
+import com.validator.exception.AiServiceException;
+import com.validator.infrastructure.config.OpenAiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiCircuitBreakerTest {
+
+    @Test
+    void opensOnFailureRateAndShortCircuitsWithoutCallingUpstream() {
+        AiCircuitBreaker breaker = breaker(60000);
+        for (int i = 0; i < 4; i++) {
+            breaker.protect(() -> Mono.error(new IOException("connection reset"))).onErrorResume(ex -> Mono.empty()).block();
+        }
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        assertThatThrownBy(() -> breaker.protect(() -> {
+            upstreamCalls.incrementAndGet();
+            return Mono.just("ok");
+        }).block())
+                .isInstanceOf(AiServiceException.class)
+                .satisfies(ex -> assertThat(((AiServiceException) ex).getCode()).isEqualTo("OPENAI_CIRCUIT_OPEN"));
+        assertThat(upstreamCalls).hasValue(0);
+        assertThat(breaker.state()).isEqualTo(AiCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void closesAfterSuccessfulProbesOnceOpenDurationElapses() throws InterruptedException {
+        AiCircuitBreaker breaker = breaker(50);
+        for (int i = 0; i < 4; i++) {
+            breaker.protect(() -> Mono.error(new IOException("timeout"))).onErrorResume(ex -> Mono.empty()).block();
+        }
+        assertThat(breaker.state()).isEqualTo(AiCircuitBreaker.State.OPEN);
+
+        Thread.sleep(100);
+        breaker.protect(() -> Mono.just("probe-1")).block();
+        assertThat(breaker.state()).isEqualTo(AiCircuitBreaker.State.HALF_OPEN);
+        breaker.protect(() -> Mono.just("probe-2")).block();
+
+        assertThat(breaker.state()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+    }
+
+    private AiCircuitBreaker breaker(long openDurationMillis) {
+        OpenAiProperties.CircuitBreaker settings = new OpenAiProperties.CircuitBreaker();
+        settings.setWindowSize(10);
+        settings.setMinimumCalls(4);
+        settings.setFailureRateThreshold(50);
+        settings.setOpenDurationMillis(openDurationMillis);
+        settings.setHalfOpenProbes(2);
+        return new AiCircuitBreaker(settings, new SimpleMeterRegistry());
+    }
+}
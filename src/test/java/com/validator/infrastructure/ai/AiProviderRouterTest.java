@@ -0,0 +1,51 @@
+package com.validator.infrastructure.ai;
+
+import com.validator.domain.model.CodeSubmission;
+import com.validator.infrastructure.config.AiRoutingProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AiProviderRouterTest {
+
+    @Test
+    void routesSmallSourcesToLocalAndHonorsExplicitProvider() {
+        AiProvider openAi = provider(OpenAiClient.NAME, true);
+        AiProvider local = provider(LocalAiClient.NAME, true);
+        AiRoutingProperties properties = new AiRoutingProperties();
+        properties.setLocalMaxSourceLength(20);
+        AiProviderRouter router = new AiProviderRouter(List.of(openAi, local), properties);
+
+        assertThat(router.route(new CodeSubmission("class A {}", "A.java", null, "JAVA"))).isSameAs(local);
+        assertThat(router.route(new CodeSubmission("class A { int value = 1; }", "A.java", null, "JAVA")))
+                .isSameAs(openAi);
+        assertThat(router.route(new CodeSubmission("class A {}", "A.java", null, "JAVA", "openai"))).isSameAs(openAi);
+        assertThat(router.isRegistered(" Local ")).isTrue();
+        assertThat(router.isRegistered("bedrock")).isFalse();
+    }
+
+    @Test
+    void fallsBackToDefaultWhenRequestedProviderIsDisabled() {
+        AiProvider openAi = provider(OpenAiClient.NAME, true);
+        AiProvider local = provider(LocalAiClient.NAME, false);
+        AiProviderRouter router = new AiProviderRouter(List.of(openAi, local), new AiRoutingProperties());
+
+        assertThat(router.route(new CodeSubmission("class A {}", "A.java", null, "JAVA", "local"))).isSameAs(openAi);
+        assertThat(router.hasEnabledProvider()).isTrue();
+
+        when(openAi.isEnabled()).thenReturn(false);
+        assertThat(router.route(new CodeSubmission("class A {}", "A.java", null, "JAVA"))).isNull();
+        assertThat(router.hasEnabledProvider()).isFalse();
+    }
+
+    private AiProvider provider(String name, boolean enabled) {
+        AiProvider provider = mock(AiProvider.class);
+        when(provider.name()).thenReturn(name);
+        when(provider.isEnabled()).thenReturn(enabled);
+        return provider;
+    }
+}
@@ -0,0 +1,46 @@
+package com.validator.infrastructure.ai;
+
+import com.validator.domain.model.AiTier;
+import com.validator.domain.model.CodeSubmission;
+import com.validator.domain.model.Issue;
+import com.validator.domain.model.IssueSeverity;
+import com.validator.domain.model.IssueSource;
+import com.validator.domain.model.IssueType;
+import com.validator.infrastructure.config.AiTierProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AiTierSelectorTest {
+
+    private final AiTierSelector selector = new AiTierSelector(new AiTierProperties());
+
+    @Test
+    void routesByPathRiskAndSize() {
+        String small = "public class A { }";
+
+        assertThat(selector.select(new CodeSubmission(small, "src/generated/A.java", null, "JAVA"), List.of()))
+                .isEqualTo(AiTier.SKIP);
+        assertThat(selector.select(new CodeSubmission(small, "/repo/src/auth/A.java", null, "JAVA"), List.of()))
+                .isEqualTo(AiTier.THOROUGH);
+        assertThat(selector.select(new CodeSubmission(small, "src/dto/A.java", null, "JAVA"), List.of()))
+                .isEqualTo(AiTier.FAST);
+        assertThat(selector.select(new CodeSubmission(small, "src/dto/A.java", null, "JAVA"), List.of(
+                new Issue(IssueType.SECURITY, IssueSeverity.MEDIUM, "risk", 1, IssueSource.STATIC_ANALYZER))))
+                .isEqualTo(AiTier.THOROUGH);
+        assertThat(selector.select(new CodeSubmission("x".repeat(8000), "A.java", null, "JAVA"), List.of()))
+                .isEqualTo(AiTier.THOROUGH);
+    }
+
+    @Test
+    void leavesSubmissionUntieredWhenDisabled() {
+        AiTierProperties properties = new AiTierProperties();
+        properties.setEnabled(false);
+
+        assertThat(new AiTierSelector(properties)
+                .select(new CodeSubmission("class A { }", "src/generated/A.java", null, "JAVA"), List.of()))
+                .isNull();
+    }
+}
@@ -0,0 +1,46 @@
+package com.validator.infrastructure.ai;
+
+import com.validator.infrastructure.config.OpenAiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenAiClientTest {
+
+    @Test
+    void coalescesIdenticalInFlightPrompts() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.delay(Duration.ofMillis(200))
+                        .doOnSubscribe(subscription -> upstreamCalls.incrementAndGet())
+                        .map(tick -> ClientResponse.create(HttpStatus.OK)
+                                .header("Content-Type", "application/json")
+                                .body("{\"choices\":[]}")
+                                .build()))
+                .build();
+        OpenAiProperties properties = new OpenAiProperties();
+        properties.setApiKey("test");
+        properties.setModel("gpt-4o-mini");
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OpenAiClient client = new OpenAiClient(webClient, properties, meterRegistry);
+
+        var responses = Mono.zip(
+                client.analyzeCode(client.model(), "same"),
+                client.analyzeCode(client.model(), "same")
+        ).block();
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(new String(responses.getT1(), StandardCharsets.UTF_8)).isEqualTo("{\"choices\":[]}");
+        assertThat(responses.getT2()).isSameAs(responses.getT1());
+        assertThat(meterRegistry.get("ai.openai.coalesced").counter().count()).isEqualTo(1);
+    }
+}
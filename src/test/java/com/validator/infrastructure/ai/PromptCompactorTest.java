@@ -0,0 +1,71 @@
+package com.validator.infrastructure.ai;
+
+import com.validator.domain.model.Issue;
+import com.validator.domain.model.IssueSeverity;
+import com.validator.domain.model.IssueSource;
+import com.validator.domain.model.IssueType;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PromptCompactorTest {
+
+    private static final String SOURCE = """
+            /*
+             * Copyright (c) Example Corp.
+             * Licensed under the Apache License, Version 2.0
+             */
+            package com.example;
+
+            import java.util.List;
+            import java.security.MessageDigest;
+
+            // 사용자 저장소
+            public class UserRepository {
+
+                private static final String URL = "http://db/users"; // 접속 주소
+
+                public void save(String password) {
+                    System.out.println(password);
+                }
+            }
+            """;
+
+    @Test
+    void stripsNonSemanticLinesAndMapsBackToOriginalLines() {
+        CompactedSource compacted = new PromptCompactor(8000).compact(SOURCE, "JAVA");
+
+        assertThat(compacted.source()).isEqualTo("""
+                // imports: java.util.List, java.security.MessageDigest
+                public class UserRepository {
+                private static final String URL = "http://db/users";
+                public void save(String password) {
+                System.out.println(password);
+                }
+                }
+                """);
+        assertThat(compacted.truncated()).isFalse();
+        assertThat(compacted.toOriginalLine(1)).isEqualTo(7);
+        assertThat(compacted.toOriginalLine(5)).isEqualTo(16);
+        assertThat(compacted.toOriginalLine(99)).isNull();
+
+        Issue remapped = compacted.remap(new Issue(
+                IssueType.SECURITY, IssueSeverity.HIGH, "비밀번호 출력", 5, IssueSource.AI_ASSIST));
+        assertThat(remapped.line()).isEqualTo(16);
+    }
+
+    @Test
+    void truncatesLinesBeyondTokenBudget() {
+        StringBuilder source = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            source.append("int value").append(i).append(" = compute(").append(i).append(");\n");
+        }
+
+        CompactedSource compacted = new PromptCompactor(100).compact(source.toString(), "JAVA");
+
+        assertThat(compacted.truncated()).isTrue();
+        assertThat(compacted.estimatedTokens()).isLessThanOrEqualTo(100);
+        assertThat(compacted.originalLines()).hasSizeLessThan(200);
+        assertThat(compacted.source()).contains("줄 생략");
+    }
+}
@@ -0,0 +1,62 @@
+package com.validator.infrastructure.analyzer;
+
+import com.validator.domain.source.SourceRegion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PatternScannerTest {
+
+    @Test
+    void reportsEveryOverlappingMatchWithOffsetAndLine() {
+        PatternScanner scanner = PatternScanner.compile(List.of("System.out.print", "System.out.println", "TODO"));
+        String source = "class A {\n  // TODO\n  void a() { System.out.println(1); }\n}";
+
+        ScanResult scan = scanner.scan(source);
+
+        assertThat(scan.matches("System.out.println"))
+                .containsExactly(new PatternMatch("System.out.println", source.indexOf("System"), 3));
+        assertThat(scan.matches("System.out.print"))
+                .containsExactly(new PatternMatch("System.out.print", source.indexOf("System"), 3));
+        assertThat(scan.firstLine("TODO")).isEqualTo(2);
+    }
+
+    @Test
+    void findsPatternsSharingSuffixesThroughFailureLinks() {
+        PatternScanner scanner = PatternScanner.compile(List.of("he", "she", "hers", "his"));
+
+        ScanResult scan = scanner.scan("ushers");
+
+        assertThat(scan.matches("she")).extracting(PatternMatch::offset).containsExactly(1);
+        assertThat(scan.matches("he")).extracting(PatternMatch::offset).containsExactly(2);
+        assertThat(scan.matches("hers")).extracting(PatternMatch::offset).containsExactly(2);
+        assertThat(scan.contains("his")).isFalse();
+        assertThat(scan.firstLine("his")).isNull();
+    }
+
+    @Test
+    void filtersMatchesBySourceRegion() {
+        PatternScanner scanner = PatternScanner.compile(List.of("http://", "TODO", "System.exit"));
+        String source = "class A {\n  // see http://docs, System.exit is banned\n"
+                + "  String url = \"http://api\"; // TODO\n  String todo = \"TODO\";\n}";
+
+        ScanResult scan = scanner.scan(source);
+
+        assertThat(scan.firstLine("http://", SourceRegion.STRING)).isEqualTo(3);
+        assertThat(scan.matches("http://", SourceRegion.COMMENT)).hasSize(1);
+        assertThat(scan.matches("TODO", SourceRegion.COMMENT)).extracting(PatternMatch::line).containsExactly(3);
+        assertThat(scan.contains("System.exit")).isTrue();
+        assertThat(scan.contains("System.exit", SourceRegion.CODE)).isFalse();
+    }
+
+    @Test
+    void rejectsLookupOfUnregisteredPattern() {
+        ScanResult scan = PatternScanner.compile(List.of("a")).scan("abc");
+
+        assertThatThrownBy(() -> scan.contains("b"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,78 @@
+package com.validator.infrastructure.analyzer;
+
+import com.validator.domain.model.CodeSubmission;
+import com.validator.domain.model.Issue;
+import com.validator.domain.model.IssueSeverity;
+import com.validator.domain.model.IssueType;
+import com.validator.domain.source.SourceRegion;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class RulePackValidatorTest {
+
+    private static final DetectorRule SECRET = new DetectorRule(
+            "HARDCODED_SECRET",
+            null,
+            IssueType.SECURITY,
+            IssueSeverity.HIGH,
+            "secret",
+            SourceRegion.CODE,
+            List.of("password", "token"),
+            "\\b(?:password|token)\\s*=\\s*\""
+    );
+    private static final DetectorRule PYTHON_EVAL = new DetectorRule(
+            "PYTHON_EVAL",
+            List.of("python"),
+            IssueType.SECURITY,
+            IssueSeverity.MEDIUM,
+            "eval",
+            SourceRegion.CODE,
+            List.of("eval("),
+            null
+    );
+
+    @Test
+    void gatesRegexOnLiteralHitsAndReportsFirstLineInRegion() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RulePackValidator validator = new RulePackValidator(meterRegistry);
+        validator.replaceDetectors(List.of(SECRET));
+        String source = """
+                class A {
+                    String hint = "password = \\"x\\"";
+                    String passwordLabel = "Password";
+                    String token   =   "abc";
+                }
+                """;
+
+        List<Issue> issues = analyze(validator, source, "JAVA");
+
+        assertThat(issues).extracting(Issue::message, Issue::line).containsExactly(
+                tuple("secret", 4));
+        assertThat(meterRegistry.get("static.rule.hits").tag("rule", "HARDCODED_SECRET").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("static.rule.evaluation").tag("rule", "HARDCODED_SECRET").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void appliesLanguageSpecificDetectorsOnlyToThatLanguage() {
+        RulePackValidator validator = new RulePackValidator(new SimpleMeterRegistry());
+        validator.replaceDetectors(List.of(SECRET, PYTHON_EVAL));
+        String source = "result = eval(user_input)\n";
+
+        assertThat(analyze(validator, source, "PYTHON")).extracting(Issue::message).containsExactly("eval");
+        assertThat(analyze(validator, source, "JAVA")).isEmpty();
+        assertThat(analyze(validator, "# don't call eval(user_input) here\nresult = 1\n", "PYTHON")).isEmpty();
+        assertThat(validator.patterns()).containsExactlyInAnyOrder("password", "token", "eval(");
+    }
+
+    private List<Issue> analyze(RulePackValidator validator, String source, String language) {
+        ScanResult scan = PatternScanner.compile(validator.patterns()).scan(source, language);
+        return validator.analyze(new CodeSubmission(source, "A", null, language), scan);
+    }
+}
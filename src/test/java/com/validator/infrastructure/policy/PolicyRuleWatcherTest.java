@@ -0,0 +1,95 @@
+package com.validator.infrastructure.policy;
+
+import com.validator.domain.model.DecisionStatus;
+import com.validator.domain.model.Issue;
+import com.validator.domain.model.IssueSeverity;
+import com.validator.domain.model.IssueSource;
+import com.validator.domain.model.IssueType;
+import com.validator.domain.policy.PolicyEngine;
+import com.validator.infrastructure.analyzer.RulePackValidator;
+import com.validator.infrastructure.config.PolicyProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class PolicyRuleWatcherTest {
+
+    private final PolicyRuleLoader loader = new PolicyRuleLoader(new DefaultResourceLoader());
+
+    @Test
+    void bundledRulesMatchBuiltInDefaults() {
+        var rules = loader.load(loader.resolve("classpath:validation-rules.json"));
+
+        assertThat(rules).isEqualTo(new PolicyEngine().rules());
+    }
+
+    @Test
+    void rejectsDuplicateRuleIds(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("rules.json");
+        Files.writeString(file, rules(rule("DUP", "BLOCK") + "," + rule("DUP", "WARN")));
+
+        assertThatThrownBy(() -> loader.load(loader.resolve(file.toUri().toString())))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void keepsSecretDetectionWhenCustomRulesOmitIt(@TempDir Path directory) throws Exception {
+        Path withoutDetectors = directory.resolve("rules.json");
+        Files.writeString(withoutDetectors, rules(rule("QUALITY_LOW", "WARN")));
+        Path withOtherDetector = directory.resolve("detectors.json");
+        Files.writeString(withOtherDetector, "{\"rules\":[" + rule("QUALITY_LOW", "WARN") + "],\"detectors\":["
+                + "{\"id\":\"TODO\",\"type\":\"QUALITY\",\"severity\":\"LOW\",\"message\":\"todo\","
+                + "\"literals\":[\"TODO\"]}]}");
+
+        RuleSet defaults = loader.loadRuleSet(loader.resolve(withoutDetectors.toUri().toString()));
+        RuleSet custom = loader.loadRuleSet(loader.resolve(withOtherDetector.toUri().toString()));
+
+        assertThat(defaults.detectors()).extracting("id").contains("HARDCODED_SECRET");
+        assertThat(custom.detectors()).extracting("id").containsExactly("TODO", "HARDCODED_SECRET");
+    }
+
+    @Test
+    void swapsRulesWhenFileChanges(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("rules.json");
+        Files.writeString(file, rules(rule("QUALITY_LOW", "WARN")));
+        PolicyProperties properties = new PolicyProperties();
+        properties.setRulesLocation(file.toUri().toString());
+        PolicyEngine engine = new PolicyEngine();
+        PolicyRuleWatcher watcher = new PolicyRuleWatcher(
+                engine, new RulePackValidator(new SimpleMeterRegistry()), loader, properties);
+        List<Issue> issues = List.of(new Issue(
+                IssueType.QUALITY, IssueSeverity.LOW, "test", null, IssueSource.STATIC_ANALYZER));
+
+        watcher.start();
+        try {
+            assertThat(engine.decide(issues).status()).isEqualTo(DecisionStatus.WARN_ONLY);
+
+            Files.writeString(file, rules(rule("QUALITY_LOW", "BLOCK")));
+
+            await().atMost(Duration.ofSeconds(10))
+                    .until(() -> engine.decide(issues).status() == DecisionStatus.BLOCKED);
+        } finally {
+            watcher.stop();
+        }
+    }
+
+    private String rules(String body) {
+        return "{\"rules\":[" + body + "]}";
+    }
+
+    private String rule(String id, String action) {
+        return """
+                {"id":"%s","name":"%s","type":"QUALITY","minSeverity":"LOW","minCount":1,"action":"%s"}
+                """.formatted(id, id, action);
+    }
+}
@@ -0,0 +1,49 @@
+package com.validator.infrastructure.review;
+
+import com.validator.domain.model.AiAnalysisStatus;
+import com.validator.infrastructure.config.ReviewProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReviewResultStoreTest {
+
+    @Test
+    void evictsOldestReviewsOnceRetainedSourceExceedsBudget() {
+        ReviewResultStore store = store(250, 100);
+
+        String first = store.save(review("a".repeat(100)));
+        String second = store.save(review("b".repeat(100)));
+        String third = store.save(review("c".repeat(100)));
+
+        assertThat(store.find(first)).isEmpty();
+        assertThat(store.find(second)).isPresent();
+        assertThat(store.find(third)).isPresent();
+        assertThat(store.storedChars()).isEqualTo(200);
+    }
+
+    @Test
+    void skipsStoringSourcesAboveSizeThreshold() {
+        ReviewResultStore store = store(1000, 100);
+
+        String hash = store.save(review("x".repeat(101)));
+
+        assertThat(hash).isEqualTo(ReviewResultStore.contentHash("x".repeat(101)));
+        assertThat(store.find(hash)).isEmpty();
+        assertThat(store.storedChars()).isZero();
+    }
+
+    private ReviewResultStore store(long maxTotalSourceChars, int maxStoredSourceChars) {
+        ReviewProperties properties = new ReviewProperties();
+        properties.getIncremental().setMaxTotalSourceChars(maxTotalSourceChars);
+        properties.getIncremental().setMaxStoredSourceChars(maxStoredSourceChars);
+        return new ReviewResultStore(properties, new SimpleMeterRegistry());
+    }
+
+    private StoredReview review(String source) {
+        return new StoredReview(source, "JAVA", List.of(), List.of(), AiAnalysisStatus.SKIPPED);
+    }
+}